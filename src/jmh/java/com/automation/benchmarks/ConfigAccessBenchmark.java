@@ -0,0 +1,48 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Config Access Benchmark
+ * Cost of the configuration lookups made on every element interaction and driver access,
+ * read from several threads at once as in a parallel run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConfigAccessBenchmark {
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigReader.getProperty("browser");
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return ConfigReader.getIntProperty("driver.pool.size", 1);
+    }
+
+    @Benchmark
+    public boolean getBooleanProperty() {
+        return ConfigReader.getBooleanProperty("headless", false);
+    }
+
+    @Benchmark
+    public Duration getExplicitWaitDuration() {
+        return ConfigReader.getExplicitWaitDuration();
+    }
+}
@@ -0,0 +1,62 @@
+package com.automation.benchmarks;
+
+import com.automation.stepdefinitions.ScenarioContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenario Context Benchmark
+ * Get and set on the shared step state with as many threads as a parallel run uses,
+ * to catch contention if the per-thread storage is ever replaced by shared state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ScenarioContextBenchmark {
+
+    private final Object response = new Object();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        ScenarioContext.set(ScenarioContext.API_RESPONSE, response);
+        ScenarioContext.set(ScenarioContext.AUTH_TOKEN, "token");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        ScenarioContext.reset();
+    }
+
+    @Benchmark
+    public Object get() {
+        return ScenarioContext.get(ScenarioContext.API_RESPONSE);
+    }
+
+    @Benchmark
+    public String getTyped() {
+        return ScenarioContext.get(ScenarioContext.AUTH_TOKEN, String.class);
+    }
+
+    @Benchmark
+    public Object setThenGet() {
+        ScenarioContext.set(ScenarioContext.USER_ID, response);
+        return ScenarioContext.get(ScenarioContext.USER_ID);
+    }
+}
@@ -0,0 +1,76 @@
+package com.automation.benchmarks;
+
+import com.automation.utils.ScreenshotEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screenshot Encode Benchmark
+ * The work the attachment pipeline does for every screenshot taken in Hooks: decode the
+ * driver's Base64 capture, optionally downscale and re-encode it as JPEG, and hash it for
+ * de-duplication. Uses a synthetic 1920x1080 page capture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenshotEncodeBenchmark {
+
+    @Param({"FULL", "COMPRESSED"})
+    public ScreenshotEncoder.Mode mode;
+
+    private String capture;
+
+    @Setup
+    public void setUp() throws IOException {
+        BufferedImage page = new BufferedImage(1920, 1080, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = page.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, Color.WHITE, 1920, 1080, new Color(220, 230, 245)));
+            graphics.fillRect(0, 0, 1920, 1080);
+            graphics.setColor(Color.DARK_GRAY);
+            graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 18));
+            for (int y = 40; y < 1080; y += 28) {
+                graphics.drawString("Load " + y + " | Driver assigned | Trailer 53ft | Status: In transit", 40, y);
+            }
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(page, "png", png);
+        capture = Base64.getEncoder().encodeToString(png.toByteArray());
+    }
+
+    @Benchmark
+    public byte[] encode() throws NoSuchAlgorithmException {
+        byte[] content = Base64.getDecoder().decode(capture);
+        if (mode == ScreenshotEncoder.Mode.COMPRESSED) {
+            content = ScreenshotEncoder.compress(content, 960, 0.6f);
+        }
+        return MessageDigest.getInstance("SHA-256").digest(content);
+    }
+}
@@ -0,0 +1,24 @@
+package com.automation.runners;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasspathResource;
+import org.junit.platform.suite.api.Suite;
+
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+
+/**
+ * Parallel Cucumber Suite
+ * Runs every feature on the Cucumber JUnit Platform engine, which honours the
+ * cucumber.execution.parallel.* settings that the JUnit 4 CukesRunner ignores.
+ * Plugins and defaults come from junit-platform.properties.
+ *
+ * Only compiled and run with the parallel profile:
+ * mvn test -Pparallel -Dparallel.threads=4 -Dcucumber.filter.tags="@epic-Security"
+ */
+@Suite
+@IncludeEngines("cucumber")
+@SelectClasspathResource("features")
+@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.automation.stepdefinitions")
+public class ParallelCucumberSuite {
+}
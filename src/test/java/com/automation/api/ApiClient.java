@@ -0,0 +1,75 @@
+package com.automation.api;
+
+import com.automation.utils.ConfigReader;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * API Client
+ * Base class for the application API clients (RestAssured). Every thread gets one HTTP client
+ * with a pooled connection manager that it keeps for the whole run, so consecutive calls
+ * reuse kept-alive connections instead of paying a TCP/TLS handshake each time. One client
+ * per thread keeps parallel scenarios from sharing client state.
+ *
+ * Subclasses provide the base URI; it is read on every request, so a configuration reload
+ * (e.g. the local stubs) is picked up immediately.
+ */
+public abstract class ApiClient {
+    protected final Logger logger = LogManager.getLogger(getClass());
+
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+    private static final int MAX_CONNECTIONS = 16;
+
+    private static final ThreadLocal<RestAssuredConfig> config = ThreadLocal.withInitial(ApiClient::pooledConfig);
+
+    // A pooled connection goes back to the pool only once its response body has been read; callers
+    // that only look at the status would otherwise leak it and exhaust the route after a few calls.
+    // asString() closes the stream once read; asByteArray() leaves the connection leased
+    private static final Filter READ_BODY = (request, response, context) -> {
+        Response result = context.next(request, response);
+        result.asString();
+        return result;
+    };
+
+    /**
+     * @return base URI of the API, e.g. https://host/api
+     */
+    protected abstract String baseUri();
+
+    /**
+     * JSON request against the API on this thread's pooled connection
+     */
+    protected RequestSpecification request() {
+        return RestAssured.given()
+                .config(config.get())
+                .baseUri(baseUri())
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .filter(READ_BODY);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static RestAssuredConfig pooledConfig() {
+        int timeout = ConfigReader.getApiTimeout();
+        HttpClientConfig httpClient = HttpClientConfig.httpClientConfig()
+                .setParam("http.connection.timeout", timeout)
+                .setParam("http.socket.timeout", timeout)
+                .httpClientFactory(() -> {
+                    PoolingClientConnectionManager connections = new PoolingClientConnectionManager();
+                    connections.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+                    connections.setMaxTotal(MAX_CONNECTIONS);
+                    return new DefaultHttpClient(connections);
+                })
+                .reuseHttpClientInstance();
+        return RestAssuredConfig.config().httpClient(httpClient);
+    }
+}
@@ -0,0 +1,170 @@
+package com.automation.api;
+
+import com.automation.utils.ConfigReader;
+import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+
+/**
+ * Nomad TMS API Client
+ * Authenticates, creates test users and seeds data against nomadtms.api.base.url, so steps
+ * can set up preconditions over HTTP and keep the UI for the behavior under test.
+ *
+ * Login and registration responses are checked against schemas/nomadtms/session.json; a
+ * contract change fails the setup call instead of a later UI step.
+ */
+public class NomadTmsApiClient extends ApiClient {
+
+    public static final String SESSION_COOKIE = "nomadtms_session";
+    public static final String TOKEN_STORAGE_KEY = "nomadtms.token";
+    public static final String USER_STORAGE_KEY = "nomadtms.user";
+
+    // Parsed once; loading the schema per call costs more than the request itself
+    private static final JsonSchemaValidator SESSION_SCHEMA = matchesJsonSchemaInClasspath("schemas/nomadtms/session.json");
+
+    @Override
+    protected String baseUri() {
+        return ConfigReader.getNomadTmsApiBaseUrl();
+    }
+
+    /**
+     * Log in
+     * @return the authenticated session
+     * @throws RuntimeException if the credentials are rejected
+     */
+    public Session login(String email, String password) {
+        long start = System.currentTimeMillis();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("email", email);
+        body.put("password", password);
+        Response response = request().body(body).post("/auth/login");
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Nomad TMS API login failed for " + email + ": HTTP "
+                    + response.statusCode() + " " + response.asString());
+        }
+        Session session = toSession(response);
+        logger.info("🔑 API login for {} took {} ms", email, System.currentTimeMillis() - start);
+        return session;
+    }
+
+    /**
+     * Send the registration request as is, for callers that check the status themselves
+     */
+    public Response register(TestUser user) {
+        return request().body(user.toRegistration()).post("/auth/register");
+    }
+
+    /**
+     * Register a new user
+     * @return the session the registration opens
+     * @throws RuntimeException if the user cannot be registered
+     */
+    public Session createUser(TestUser user) {
+        Response response = register(user);
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Nomad TMS API could not register " + user + ": HTTP "
+                    + response.statusCode() + " " + response.asString());
+        }
+        logger.info("👤 Registered {} over the API", user);
+        return toSession(response);
+    }
+
+    /**
+     * Make sure an account exists for the user's email
+     * @return true if it was created, false if it already existed
+     * @throws RuntimeException if registration fails for any other reason
+     */
+    public boolean ensureUser(TestUser user) {
+        Response response = register(user);
+        switch (response.statusCode()) {
+            case 200:
+                logger.info("👤 Registered {} over the API", user);
+                return true;
+            case 409:
+                logger.debug("Account {} already exists", user);
+                return false;
+            default:
+                throw new RuntimeException("Nomad TMS API could not provision " + user + ": HTTP "
+                        + response.statusCode() + " " + response.asString());
+        }
+    }
+
+    /**
+     * GET /auth/me for the session
+     */
+    public Response me(Session session) {
+        return authenticated(session).get("/auth/me");
+    }
+
+    /**
+     * End the session on the server
+     */
+    public void logout(Session session) {
+        authenticated(session).post("/auth/logout");
+    }
+
+    /**
+     * Request carrying the session cookie, for seeding data as the logged-in user
+     */
+    public RequestSpecification authenticated(Session session) {
+        return request().cookies(session.getCookies());
+    }
+
+    private Session toSession(Response response) {
+        response.then().body(SESSION_SCHEMA);
+        Map<String, String> cookies = new HashMap<>(response.getCookies());
+        return new Session(response.path("email"), response.path("token"), cookies, response.asString());
+    }
+
+    /**
+     * Authenticated API session: the cookies the server set and the user returned at login,
+     * in the form the web app keeps them (session cookie plus nomadtms.token/nomadtms.user in localStorage)
+     */
+    public static class Session {
+        private final String email;
+        private final String token;
+        private final Map<String, String> cookies;
+        private final String userJson;
+
+        Session(String email, String token, Map<String, String> cookies, String userJson) {
+            this.email = email;
+            this.token = token;
+            this.cookies = Collections.unmodifiableMap(cookies);
+            this.userJson = userJson;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * @return cookie name to value
+         */
+        public Map<String, String> getCookies() {
+            return cookies;
+        }
+
+        /**
+         * @return localStorage entries the web app writes after a form login
+         */
+        public Map<String, Object> getLocalStorage() {
+            Map<String, Object> storage = new LinkedHashMap<>();
+            if (token != null) {
+                storage.put(TOKEN_STORAGE_KEY, token);
+            }
+            storage.put(USER_STORAGE_KEY, userJson);
+            return storage;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.automation.api;
+
+import com.automation.utils.ConfigReader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Test User
+ * Account data sent to the registration API. Names and organization default to the
+ * configured test user (nomadtms.test.user.*).
+ */
+public class TestUser {
+    private final String firstName;
+    private final String lastName;
+    private final String organizationName;
+    private final String email;
+    private final String password;
+
+    public TestUser(String firstName, String lastName, String organizationName, String email, String password) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.organizationName = organizationName;
+        this.email = email;
+        this.password = password;
+    }
+
+    /**
+     * The configured Nomad TMS test user
+     */
+    public static TestUser configured() {
+        return withEmail(ConfigReader.getNomadTmsTestUserEmail(), ConfigReader.getNomadTmsTestUserPassword());
+    }
+
+    /**
+     * User with the configured names and the given credentials
+     */
+    public static TestUser withEmail(String email, String password) {
+        return new TestUser(ConfigReader.getNomadTmsTestUserFirstName(), ConfigReader.getNomadTmsTestUserLastName(),
+                ConfigReader.getNomadTmsTestUserOrganization(), email, password);
+    }
+
+    /**
+     * User with the given email and a generated password that passes the sign-up rules
+     */
+    public static TestUser withEmail(String email) {
+        return withEmail(email, generatePassword());
+    }
+
+    /**
+     * User with an email no run has used before, e.g. sdet+a1b2c3d4e5@gmail.com for the configured sdet@gmail.com
+     */
+    public static TestUser unique() {
+        String configured = ConfigReader.getNomadTmsTestUserEmail();
+        int at = configured.indexOf('@');
+        String tag = UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+        String email = at > 0
+                ? configured.substring(0, at) + "+" + tag + configured.substring(at)
+                : "user+" + tag + "@example.com";
+        return withEmail(email);
+    }
+
+    private static String generatePassword() {
+        return "Tms-" + UUID.randomUUID().toString().substring(0, 8) + "9a";
+    }
+
+    /**
+     * @return body of POST /auth/register
+     */
+    public Map<String, Object> toRegistration() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("firstName", firstName);
+        body.put("lastName", lastName);
+        body.put("organizationName", organizationName);
+        body.put("email", email);
+        body.put("password", password);
+        return body;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getOrganizationName() {
+        return organizationName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
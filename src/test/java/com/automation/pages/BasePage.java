@@ -3,17 +3,21 @@ package com.automation.pages;
 import com.automation.utils.ConfigReader;
 import com.automation.utils.BrowserUtils;
 import com.automation.utils.DriverManager;
+import com.automation.utils.WaitMetrics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Base Page Object Class
@@ -21,13 +25,32 @@ import java.util.List;
  * 
  * NOTE: Does NOT cache driver - always gets fresh reference from DriverManager
  * This prevents stale driver issues between scenarios
+ *
+ * @FindBy elements are bound lazily: every lookup resolves the driver of the calling
+ * thread at that moment, so constructing a page object never checks out a browser and
+ * a page object created on one thread never drives another thread's session.
  */
 public abstract class BasePage {
     protected final Logger logger = LogManager.getLogger(this.getClass());
 
+    /**
+     * Search context that delegates every lookup to the current thread's driver
+     */
+    private static final SearchContext CURRENT_DRIVER = new SearchContext() {
+        @Override
+        public List<WebElement> findElements(By by) {
+            return DriverManager.getDriver().findElements(by);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return DriverManager.getDriver().findElement(by);
+        }
+    };
+
     protected BasePage() {
-        // Initialize PageFactory with current driver
-        PageFactory.initElements(getDriver(), this);
+        // Initialize PageFactory with lazy element proxies bound to the current thread's driver
+        PageFactory.initElements(new DefaultElementLocatorFactory(CURRENT_DRIVER), this);
     }
 
     /**
@@ -43,7 +66,7 @@ public abstract class BasePage {
      * @return WebDriverWait instance
      */
     protected WebDriverWait getWait() {
-        return new WebDriverWait(getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        return new WebDriverWait(getDriver(), ConfigReader.getExplicitWaitDuration());
     }
 
     // ==================== Navigation ====================
@@ -82,7 +105,7 @@ public abstract class BasePage {
      * @return visible WebElement
      */
     protected WebElement waitForVisibility(WebElement element) {
-        return getWait().until(ExpectedConditions.visibilityOf(element));
+        return WaitMetrics.time("visibility", () -> getWait().until(ExpectedConditions.visibilityOf(element)));
     }
 
     /**
@@ -91,7 +114,7 @@ public abstract class BasePage {
      * @return visible WebElement
      */
     protected WebElement waitForVisibility(By locator) {
-        return getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
+        return WaitMetrics.time("visibility", () -> getWait().until(ExpectedConditions.visibilityOfElementLocated(locator)));
     }
 
     /**
@@ -100,7 +123,7 @@ public abstract class BasePage {
      * @return clickable WebElement
      */
     protected WebElement waitForClickability(WebElement element) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(element));
+        return WaitMetrics.time("clickability", () -> getWait().until(ExpectedConditions.elementToBeClickable(element)));
     }
 
     /**
@@ -109,7 +132,7 @@ public abstract class BasePage {
      * @return clickable WebElement
      */
     protected WebElement waitForClickability(By locator) {
-        return getWait().until(ExpectedConditions.elementToBeClickable(locator));
+        return WaitMetrics.time("clickability", () -> getWait().until(ExpectedConditions.elementToBeClickable(locator)));
     }
 
     /**
@@ -125,7 +148,7 @@ public abstract class BasePage {
      * @return true if element is invisible
      */
     protected boolean waitForInvisibility(By locator) {
-        return getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        return WaitMetrics.time("invisibility", () -> getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator)));
     }
 
     /**
@@ -135,7 +158,53 @@ public abstract class BasePage {
      * @return true if text is present
      */
     protected boolean waitForTextPresent(WebElement element, String text) {
-        return getWait().until(ExpectedConditions.textToBePresentInElement(element, text));
+        return WaitMetrics.time("text present", () -> getWait().until(ExpectedConditions.textToBePresentInElement(element, text)));
+    }
+
+    /**
+     * Wait for the network to go idle and the DOM to stop changing
+     * @return true if the page settled before the settle timeout
+     */
+    protected boolean waitForPageToSettle() {
+        return BrowserUtils.waitForPageToSettle();
+    }
+
+    /**
+     * Wait for the DOM to stop changing (e.g. before checking for a validation message)
+     * @return true if the DOM went quiet before the settle timeout
+     */
+    protected boolean waitForDomQuiet() {
+        return BrowserUtils.waitForDomQuiet();
+    }
+
+    /**
+     * Wait for the URL to contain a fragment
+     * @param fragment expected URL fragment
+     * @return true if the URL matched before the settle timeout
+     */
+    protected boolean waitForUrlContains(String fragment) {
+        return BrowserUtils.waitForUrlContains(fragment);
+    }
+
+    /**
+     * Wait for the URL to satisfy a condition
+     * @param name wait name used in WaitMetrics
+     * @param condition URL condition
+     * @return true if the URL matched before the settle timeout
+     */
+    protected boolean waitForUrlMatching(String name, Predicate<String> condition) {
+        return BrowserUtils.waitForUrlMatching(name, condition);
+    }
+
+    /**
+     * Wait for the text of the last matching element to stop growing
+     * @param locator element locator
+     * @param quietPeriod how long the text must stay unchanged
+     * @param timeout maximum time to wait
+     * @return final text
+     */
+    protected String waitForTextToStopGrowing(By locator, Duration quietPeriod, Duration timeout) {
+        return BrowserUtils.waitForTextToStopGrowing(locator, quietPeriod, timeout);
     }
 
     // ==================== Element Interactions ====================
@@ -1,16 +1,21 @@
 package com.automation.pages.jasalma;
 
 import com.automation.pages.BasePage;
+import com.automation.utils.BrowserUtils;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.StreamingResponseDetector;
 import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.util.List;
 
 /**
  * AI Study Page Object for Jasalma AI Learning Platform
- * URL: https://www.jasalma.ai/ai-chat
+ * URL: {jasalma.base.url}/ai-chat
  * 
  * This page handles the AI Study feature where users can:
  * - Select a course/project from dropdown
@@ -21,9 +26,23 @@ import java.util.List;
 public class JasalmaAIStudyPage extends BasePage {
 
     // ==================== Page URL ====================
-    private static final String BASE_URL = "https://www.jasalma.ai";
     private static final String AI_CHAT_PATH = "/ai-chat";
 
+    // XPath selectors to find AI response elements
+    private static final String[] RESPONSE_XPATHS = {
+        "//div[img[contains(@alt, 'AI') or contains(@alt, 'Teacher')]]//div//p",
+        "//main//div[contains(@class, 'message')]//p",
+        "//div[contains(@class, 'ai-response')]//p",
+        "//div[contains(@class, 'chat')]//div//p[last()]"
+    };
+
+    // One AI Teacher message; the streamed answer is the one added after the prompt is sent
+    private static final String AI_MESSAGE_XPATH =
+        "//div[img[contains(@alt, 'AI') or contains(@alt, 'Teacher')]] | //div[contains(@class, 'ai-response')]";
+
+    private final By chatContainer = By.xpath("//main");
+    private StreamingResponseDetector responseDetector;
+
     // ==================== Web Elements ====================
     
     // Navigation
@@ -68,7 +87,7 @@ public class JasalmaAIStudyPage extends BasePage {
      * Navigate to AI Study page
      */
     public void navigateToAIStudy() {
-        String url = BASE_URL + AI_CHAT_PATH;
+        String url = ConfigReader.getJasalmaBaseUrl() + AI_CHAT_PATH;
         navigateTo(url);
         logger.info("Navigated to AI Study page: {}", url);
         waitForPageToLoad();
@@ -94,11 +113,7 @@ public class JasalmaAIStudyPage extends BasePage {
      * Wait for AI Study page to load
      */
     private void waitForPageToLoad() {
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        waitForPageToSettle();
     }
 
     /**
@@ -112,16 +127,14 @@ public class JasalmaAIStudyPage extends BasePage {
                 By.xpath("//button[.='Select a project to chat about']")));
             combobox.click();
             logger.info("Opened course dropdown");
-            
-            Thread.sleep(1000); // Wait for dropdown to open
-            
+
             // Select the course option
             WebElement courseOption = getWait().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//div[@role='option' and contains(., '" + courseName + "')] | //div[@role='listbox']//div[contains(text(), '" + courseName + "')]")));
             courseOption.click();
             logger.info("Selected course: {}", courseName);
-            
-            Thread.sleep(2000); // Wait for course to load
+
+            waitForPageToSettle(); // Wait for course to load
         } catch (Exception e) {
             logger.error("Failed to select course '{}': {}", courseName, e.getMessage());
             throw new RuntimeException("Failed to select course: " + courseName, e);
@@ -188,16 +201,15 @@ public class JasalmaAIStudyPage extends BasePage {
             logger.info("Waiting for AI agent to load...");
             
             // Wait for loading indicator to appear and disappear
+            By startingIndicator = By.xpath("//h3[contains(text(), 'Starting')] | //button[contains(., 'Starting')]");
             try {
-                getWait().until(ExpectedConditions.presenceOfElementLocated(
-                    By.xpath("//h3[contains(text(), 'Starting')] | //button[contains(., 'Starting')]")));
+                getWait().until(ExpectedConditions.presenceOfElementLocated(startingIndicator));
             } catch (Exception e) {
                 // Loading indicator might have already passed
             }
-            
+            waitForInvisibility(startingIndicator);
+
             // Wait for chat input to become enabled
-            Thread.sleep(5000); // Initial wait for session creation
-            
             getWait().until(ExpectedConditions.presenceOfElementLocated(
                 By.xpath("//input[contains(@placeholder, 'Ask in') and not(@disabled)] | //textarea[not(@disabled)]")));
             
@@ -221,12 +233,12 @@ public class JasalmaAIStudyPage extends BasePage {
             input.clear();
             input.sendKeys(message);
             logger.info("Entered message: {}", message);
-            
-            Thread.sleep(500); // Small delay before clicking send
-            
+
             // Click send button
             WebElement sendBtn = getWait().until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//button[contains(., 'Send message') or @aria-label='Send message']")));
+            BrowserUtils.armWaitTrackers();
+            responseDetector = StreamingResponseDetector.attach(chatContainer, AI_MESSAGE_XPATH, message);
             sendBtn.click();
             logger.info("Sent message to AI agent");
             
@@ -244,8 +256,10 @@ public class JasalmaAIStudyPage extends BasePage {
         try {
             logger.info("Waiting for AI response...");
             
-            // Wait for response to appear (AI responses take time)
-            Thread.sleep(10000); // Wait for AI to generate response
+            // Wait for the generation request to finish, then for the answer to stop growing
+            BrowserUtils.waitForNetworkIdle();
+            waitForTextToStopGrowing(By.xpath("//main"), ConfigReader.getWaitQuietPeriodDuration(),
+                    ConfigReader.getExplicitWaitDuration());
             
             // Get all paragraph elements in the response area
             List<WebElement> responseElements = getDriver().findElements(
@@ -280,57 +294,45 @@ public class JasalmaAIStudyPage extends BasePage {
     }
 
     /**
-     * Get the latest AI response after sending a message
-     * Waits up to 30 seconds for a non-empty response with polling
+     * Get the latest AI response after sending a message.
+     * Returns as soon as the streamed answer stops changing; falls back to the
+     * known response XPaths if the chat container was re-rendered while streaming.
      * @return latest response text
      */
     public String getLatestResponse() {
-        final int MAX_WAIT_SECONDS = 30;
-        final int POLL_INTERVAL_MS = 2000;
-        int elapsedSeconds = 0;
-        String response = "";
-        
-        logger.info("Waiting for AI response (max {} seconds)...", MAX_WAIT_SECONDS);
-        
-        // XPath selectors to find AI response elements
-        String[] responseXPaths = {
-            "//div[img[contains(@alt, 'AI') or contains(@alt, 'Teacher')]]//div//p",
-            "//main//div[contains(@class, 'message')]//p",
-            "//div[contains(@class, 'ai-response')]//p",
-            "//div[contains(@class, 'chat')]//div//p[last()]"
-        };
-        
+        if (responseDetector != null) {
+            StreamingResponseDetector.Result result = responseDetector.awaitCompletion();
+            responseDetector = null;
+            if (result.isComplete() && !result.getText().isEmpty()) {
+                return result.getText();
+            }
+        }
+
+        logger.info("Waiting for AI response via response selectors (max {} seconds)...",
+            ConfigReader.getLlmResponseTimeout());
         try {
-            while (elapsedSeconds < MAX_WAIT_SECONDS) {
-                // Try each XPath selector
-                for (String xpath : responseXPaths) {
-                    response = extractResponseText(xpath);
-                    if (!response.isEmpty()) {
-                        logger.info("AI response found after {} seconds (length: {} chars)", 
-                            elapsedSeconds, response.length());
-                        return response;
+            String response = new WebDriverWait(getDriver(), ConfigReader.getLlmResponseTimeoutDuration())
+                .pollingEvery(ConfigReader.getWaitPollIntervalDuration())
+                .until(driver -> {
+                    for (String xpath : RESPONSE_XPATHS) {
+                        String text = extractResponseText(xpath);
+                        if (!text.isEmpty()) {
+                            return text;
+                        }
                     }
-                }
-                
-                // Wait before next poll
-                Thread.sleep(POLL_INTERVAL_MS);
-                elapsedSeconds += (POLL_INTERVAL_MS / 1000);
-                logger.debug("Polling for AI response... ({}/{}s)", elapsedSeconds, MAX_WAIT_SECONDS);
-            }
-            
-            logger.warn("Timeout waiting for AI response after {} seconds", MAX_WAIT_SECONDS);
-            return response;
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Interrupted while waiting for AI response: {}", e.getMessage());
+                    return null;
+                });
+            logger.info("AI response found (length: {} chars)", response.length());
             return response;
+        } catch (TimeoutException e) {
+            logger.warn("Timeout waiting for AI response after {} seconds", ConfigReader.getLlmResponseTimeout());
+            return "";
         } catch (Exception e) {
             logger.error("Error getting latest response: {}", e.getMessage());
-            return response;
+            return "";
         }
     }
-    
+
     /**
      * Extract response text from elements matching the given XPath
      * @param xpath XPath to find response elements
@@ -411,8 +413,7 @@ public class JasalmaAIStudyPage extends BasePage {
     @Override
     public boolean isPageLoaded() {
         try {
-            Thread.sleep(2000);
-            return isOnAIStudyPage();
+            return waitForUrlContains(AI_CHAT_PATH);
         } catch (Exception e) {
             logger.error("AI Study page not loaded properly: {}", e.getMessage());
             return false;
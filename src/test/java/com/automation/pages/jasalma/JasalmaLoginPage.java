@@ -1,13 +1,14 @@
 package com.automation.pages.jasalma;
 
 import com.automation.pages.BasePage;
+import com.automation.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 /**
  * Login Page Object for Jasalma AI Learning Platform
- * URL: https://www.jasalma.ai/sign-in
+ * URL: {jasalma.base.url}/sign-in
  * 
  * Note: Jasalma uses Clerk authentication with a TWO-STEP login flow:
  * Step 1: Enter email → Click Continue
@@ -16,7 +17,6 @@ import org.openqa.selenium.support.FindBy;
 public class JasalmaLoginPage extends BasePage {
 
     // ==================== Page URL ====================
-    private static final String BASE_URL = "https://www.jasalma.ai";
     private static final String SIGN_IN_PATH = "/sign-in";
 
     // ==================== Web Elements - Step 1 (Email) ====================
@@ -43,7 +43,7 @@ public class JasalmaLoginPage extends BasePage {
      * Navigate to Jasalma sign-in page
      */
     public void navigateToSignInPage() {
-        String url = BASE_URL + SIGN_IN_PATH;
+        String url = ConfigReader.getJasalmaBaseUrl() + SIGN_IN_PATH;
         navigateTo(url);
         logger.info("Navigated to Jasalma sign-in page: {}", url);
         waitForPageToLoad();
@@ -54,7 +54,6 @@ public class JasalmaLoginPage extends BasePage {
      */
     private void waitForPageToLoad() {
         try {
-            Thread.sleep(2000);
             waitForVisibility(emailInput);
         } catch (Exception e) {
             logger.debug("Waiting for sign-in form: {}", e.getMessage());
@@ -77,7 +76,6 @@ public class JasalmaLoginPage extends BasePage {
      */
     public void enterPassword(String password) {
         try {
-            Thread.sleep(1000); // Wait for step 2 page to load
             WebElement passwordInput = waitForVisibility(passwordInputLocator);
             sendKeys(passwordInput, password);
             logger.debug("Entered password");
@@ -120,11 +118,7 @@ public class JasalmaLoginPage extends BasePage {
         clickContinueButton();
         
         // Wait for step 2 to load
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        waitForUrlContains("/factor-one");
         
         // Step 2: Enter password and click continue
         enterPassword(password);
@@ -162,7 +156,7 @@ public class JasalmaLoginPage extends BasePage {
      */
     public boolean isOnSignInPage() {
         String currentUrl = getCurrentUrl();
-        return currentUrl.contains("jasalma.ai/sign-in");
+        return currentUrl.startsWith(ConfigReader.getJasalmaBaseUrl() + SIGN_IN_PATH);
     }
 
     /**
@@ -177,7 +171,6 @@ public class JasalmaLoginPage extends BasePage {
     @Override
     public boolean isPageLoaded() {
         try {
-            Thread.sleep(2000);
             waitForVisibility(emailInput);
             waitForVisibility(continueButton);
             return true;
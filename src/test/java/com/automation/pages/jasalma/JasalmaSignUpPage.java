@@ -1,18 +1,18 @@
 package com.automation.pages.jasalma;
 
 import com.automation.pages.BasePage;
+import com.automation.utils.ConfigReader;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 /**
  * Sign Up Page Object for Jasalma AI Learning Platform
- * URL: https://www.jasalma.ai/sign-up
+ * URL: {jasalma.base.url}/sign-up
  */
 public class JasalmaSignUpPage extends BasePage {
 
     // ==================== Page URL ====================
-    private static final String BASE_URL = "https://www.jasalma.ai";
     private static final String SIGN_UP_PATH = "/sign-up";
 
     // ==================== Web Elements ====================
@@ -47,7 +47,7 @@ public class JasalmaSignUpPage extends BasePage {
      * Navigate to Jasalma sign-up page
      */
     public void navigateToSignUpPage() {
-        String url = BASE_URL + SIGN_UP_PATH;
+        String url = ConfigReader.getJasalmaBaseUrl() + SIGN_UP_PATH;
         navigateTo(url);
         logger.info("Navigated to Jasalma sign-up page: {}", url);
         waitForPageToLoad();
@@ -58,7 +58,6 @@ public class JasalmaSignUpPage extends BasePage {
      */
     private void waitForPageToLoad() {
         try {
-            Thread.sleep(2000);
             waitForVisibility(emailInput);
             waitForVisibility(passwordInput);
         } catch (Exception e) {
@@ -186,7 +185,7 @@ public class JasalmaSignUpPage extends BasePage {
      */
     public boolean isOnSignUpPage() {
         String currentUrl = getCurrentUrl();
-        return currentUrl.contains("jasalma.ai/sign-up");
+        return currentUrl.startsWith(ConfigReader.getJasalmaBaseUrl() + SIGN_UP_PATH);
     }
 
     /**
@@ -195,7 +194,7 @@ public class JasalmaSignUpPage extends BasePage {
      */
     public boolean isSuccessOrVerificationMessageDisplayed() {
         try {
-            Thread.sleep(2000);
+            waitForPageToSettle(); // Wait for the sign-up request and any redirect to finish
             return isDisplayed(findElement(successMessageLocator));
         } catch (Exception e) {
             // Also check if we're redirected away from sign-up page (successful sign-up)
@@ -210,7 +209,7 @@ public class JasalmaSignUpPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         try {
-            Thread.sleep(1000);
+            waitForPageToSettle(); // Wait for the sign-up request and any error rendering to finish
             return isDisplayed(findElement(errorMessageLocator));
         } catch (Exception e) {
             return false;
@@ -220,7 +219,6 @@ public class JasalmaSignUpPage extends BasePage {
     @Override
     public boolean isPageLoaded() {
         try {
-            Thread.sleep(2000);
             waitForVisibility(emailInput);
             waitForVisibility(passwordInput);
             waitForVisibility(continueButton);
@@ -1,6 +1,9 @@
 package com.automation.pages.nomadtms;
 
 import com.automation.pages.BasePage;
+import com.automation.utils.BrowserUtils;
+import com.automation.utils.ConfigReader;
+import com.automation.utils.StreamingResponseDetector;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
@@ -11,7 +14,7 @@ import java.util.List;
 
 /**
  * Agent Page Object for Nomad TMS AI Agent Chat
- * URL: https://nomadtms.up.railway.app/agent
+ * URL: {nomadtms.base.url}/agent
  */
 public class NomadTmsAgentPage extends BasePage {
 
@@ -22,6 +25,10 @@ public class NomadTmsAgentPage extends BasePage {
     private WebElement chatInput;
 
     private By agentMessages = By.xpath("//main//div[contains(@class, 'rounded')]//p");
+    private By lastAgentMessage = By.xpath("(//main//div[contains(@class, 'rounded')]//p)[last()]/..");
+    private By chatContainer = By.xpath("//main");
+    // User and agent messages share this markup; the detector skips the echoed prompt
+    private static final String MESSAGE_XPATH = "//main//div[contains(@class, 'rounded')]";
 
     /**
      * Click on Agent menu in sidebar
@@ -38,9 +45,11 @@ public class NomadTmsAgentPage extends BasePage {
     public void sendMessage(String message) {
         waitForVisibility(chatInput);
         sendKeys(chatInput, message);
+        BrowserUtils.armWaitTrackers();
+        StreamingResponseDetector detector = StreamingResponseDetector.attach(chatContainer, MESSAGE_XPATH, message);
         chatInput.sendKeys(Keys.ENTER);
         logger.info("Sent message: {}", message);
-        waitForResponse();
+        waitForResponse(detector);
     }
 
     /**
@@ -61,11 +70,16 @@ public class NomadTmsAgentPage extends BasePage {
         return "";
     }
 
-    private void waitForResponse() {
+    private void waitForResponse(StreamingResponseDetector detector) {
+        if (detector.awaitCompletion().isComplete()) {
+            return;
+        }
+        // Chat container was re-rendered or nothing streamed - fall back to polling the last message
         try {
-            Thread.sleep(2000);
             getWait().until(ExpectedConditions.presenceOfElementLocated(agentMessages));
-            Thread.sleep(500);
+            BrowserUtils.waitForNetworkIdle();
+            waitForTextToStopGrowing(lastAgentMessage, ConfigReader.getWaitQuietPeriodDuration(),
+                    ConfigReader.getExplicitWaitDuration());
         } catch (Exception e) {
             logger.warn("Timeout waiting for response: {}", e.getMessage());
         }
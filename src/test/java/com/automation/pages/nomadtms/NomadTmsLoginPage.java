@@ -8,7 +8,7 @@ import org.openqa.selenium.support.FindBy;
 
 /**
  * Login Page Object for Nomad TMS Fleet Management System
- * URL: https://nomadtms.up.railway.app
+ * URL: {nomadtms.base.url}
  */
 public class NomadTmsLoginPage extends BasePage {
 
@@ -53,11 +53,10 @@ public class NomadTmsLoginPage extends BasePage {
         
         // Click the Login button on the home page to show login form
         try {
-            Thread.sleep(1000);
             waitForClickability(loginButton);
             click(loginButton);
             logger.info("Clicked Login button to show login form");
-            Thread.sleep(500);
+            waitForVisibility(emailInput);
         } catch (Exception e) {
             logger.debug("Login form might already be visible: {}", e.getMessage());
         }
@@ -139,7 +138,7 @@ public class NomadTmsLoginPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         try {
-            Thread.sleep(1000); // Wait for potential error to appear
+            waitForPageToSettle(); // Wait for the sign-in request and any error rendering to finish
             return isDisplayed(findElement(errorMessageLocator)) || isDisplayed(findElement(toastErrorLocator));
         } catch (Exception e) {
             return false;
@@ -242,6 +241,6 @@ public class NomadTmsLoginPage extends BasePage {
      */
     public boolean isOnLoginPage() {
         String currentUrl = getCurrentUrl();
-        return currentUrl.contains("nomadtms.up.railway.app");
+        return currentUrl.startsWith(ConfigReader.getNomadTmsBaseUrl());
     }
 }
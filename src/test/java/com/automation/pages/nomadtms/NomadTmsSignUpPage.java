@@ -8,7 +8,7 @@ import org.openqa.selenium.support.FindBy;
 
 /**
  * Sign Up Page Object for Nomad TMS Fleet Management System
- * URL: https://nomadtms.up.railway.app
+ * URL: {nomadtms.base.url}
  */
 public class NomadTmsSignUpPage extends BasePage {
 
@@ -62,18 +62,16 @@ public class NomadTmsSignUpPage extends BasePage {
         logger.info("Navigated to Nomad TMS home page: {}", url);
         
         try {
-            Thread.sleep(1000);
             // Click Login button first to open auth modal
             waitForClickability(loginButton);
             click(loginButton);
             logger.info("Clicked Login button");
-            Thread.sleep(500);
-            
+
             // Click Sign Up tab to switch to signup form
             waitForClickability(signUpTab);
             click(signUpTab);
             logger.info("Clicked Sign Up tab to show signup form");
-            Thread.sleep(500);
+            waitForVisibility(firstNameInput);
         } catch (Exception e) {
             logger.debug("Signup form might already be visible: {}", e.getMessage());
         }
@@ -191,7 +189,7 @@ public class NomadTmsSignUpPage extends BasePage {
      */
     public boolean isErrorMessageDisplayed() {
         try {
-            Thread.sleep(1000);
+            waitForPageToSettle(); // Wait for the signup request and any error rendering to finish
             return isDisplayed(findElement(errorMessageLocator)) || isDisplayed(findElement(toastMessageLocator));
         } catch (Exception e) {
             return false;
@@ -220,6 +218,7 @@ public class NomadTmsSignUpPage extends BasePage {
      */
     public boolean isValidationMessageDisplayed() {
         try {
+            waitForDomQuiet(); // Client-side validation renders without a network round trip
             return isDisplayed(findElement(validationMessageLocator));
         } catch (Exception e) {
             return false;
@@ -321,6 +320,6 @@ public class NomadTmsSignUpPage extends BasePage {
      */
     public boolean isOnSignUpPage() {
         String currentUrl = getCurrentUrl();
-        return currentUrl.contains("nomadtms.up.railway.app");
+        return currentUrl.startsWith(ConfigReader.getNomadTmsBaseUrl());
     }
 }
@@ -1,20 +1,21 @@
 package com.automation.runners;
 
 import com.automation.utils.AllureReport;
-import io.cucumber.junit.Cucumber;
 import io.cucumber.junit.CucumberOptions;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 
-@RunWith(Cucumber.class)
+/**
+ * Cucumber Runner
+ * html, json and rerun reports are registered by ShardedCucumber (per shard when
+ * -Dshard.count is greater than 1)
+ */
+@RunWith(ShardedCucumber.class)
 @CucumberOptions(
         plugin = {
                 "pretty",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
-                "html:target/cucumber-reports.html",
-                "json:target/cucumber-reports/cucumber.json",
-                "rerun:target/rerun.txt"
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
         },
         features = "src/test/resources/features",
         glue = "com.automation.stepdefinitions",
@@ -31,7 +32,7 @@ public class CukesRunner {
     @AfterClass
     public static void afterAll() {
         try {
-            AllureReport.generate(); // creates target/allure-report if CLI is available
+            AllureReport.generate(); // no-op when the Hooks teardown already built target/allure-report
         } catch (Exception e) {
             System.out.println("Allure report generation failed");
         }
@@ -13,7 +13,7 @@ import org.junit.runner.RunWith;
 @CucumberOptions(
         plugin = {
                 "pretty",
-                "html:target/cucumber-reports/rerun.html",
+                "html:target/cucumber-rerun.html",
                 "json:target/cucumber-reports/rerun.json"
         },
         features = "@target/rerun.txt",
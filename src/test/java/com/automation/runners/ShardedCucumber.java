@@ -0,0 +1,145 @@
+package com.automation.runners;
+
+import com.automation.utils.ConfigReader;
+import com.automation.utils.ShardPlanner;
+import io.cucumber.junit.Cucumber;
+import io.cucumber.junit.CucumberOptions;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharded Cucumber Runner
+ * JUnit 4 Cucumber runner that runs only this JVM's share of the scenarios when
+ * shard.count is greater than 1 (e.g. -Dshard.index=2 -Dshard.count=4 on the second of
+ * four CI agents). Scenarios, not feature files, are distributed using the durations
+ * recorded in the previous cucumber.json, so every shard finishes at about the same time.
+ *
+ * Report plugins are registered here so each shard writes to its own folder under
+ * target/shards; ShardReportMerger combines them afterwards. Unsharded runs keep the
+ * usual target/cucumber-reports layout. Each shard also writes its own step timeline.
+ * A JVM started by BrowserMatrix writes the same set of reports to its browser's folder
+ * under target/matrix instead.
+ *
+ * The Cucumber runner is final, so this runner sets the shard's cucumber.* system properties,
+ * builds a Cucumber runner that reads them and delegates to it. The properties are restored
+ * afterwards so other runners in the same JVM are not affected.
+ */
+public class ShardedCucumber extends Runner implements Filterable {
+    private static final Logger logger = LogManager.getLogger(ShardedCucumber.class);
+
+    private static final String DEFAULT_FEATURES = "src/test/resources/features";
+    private static final String TIMELINE_PLUGIN = "com.automation.utils.StepTimelinePlugin";
+    private static final String NO_SCENARIOS_TAG = "@no-scenarios-in-shard";
+    private static final String[] CUCUMBER_PROPERTIES = {"cucumber.plugin", "cucumber.features", "cucumber.filter.tags"};
+
+    private final Cucumber delegate;
+
+    public ShardedCucumber(Class<?> clazz) throws InitializationError {
+        Map<String, String> saved = new HashMap<>();
+        for (String key : CUCUMBER_PROPERTIES) {
+            saved.put(key, System.getProperty(key));
+        }
+        try {
+            configure(clazz);
+            delegate = new Cucumber(clazz);
+        } finally {
+            saved.forEach((key, value) -> {
+                if (value == null) {
+                    System.clearProperty(key);
+                } else {
+                    System.setProperty(key, value);
+                }
+            });
+        }
+    }
+
+    @Override
+    public Description getDescription() {
+        return delegate.getDescription();
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        delegate.run(notifier);
+    }
+
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        delegate.filter(filter);
+    }
+
+    /**
+     * Set the cucumber.* and allure.* system properties for this shard before Cucumber reads them
+     */
+    private static void configure(Class<?> clazz) throws InitializationError {
+        int count = ConfigReader.getShardCount();
+        int index = ConfigReader.getShardIndex();
+
+        if (ConfigReader.isBrowserMatrixRun()) {
+            // Started by BrowserMatrix: this JVM runs the whole selection on one browser
+            String browserDir = ConfigReader.getBrowserMatrixOutputDir() + "/" + ConfigReader.getMatrixBrowser();
+            addPlugins("html:" + browserDir + "/cucumber-reports.html",
+                    "json:" + browserDir + "/cucumber.json",
+                    "rerun:" + browserDir + "/rerun.txt",
+                    TIMELINE_PLUGIN + ":" + browserDir + "/step-timeline.json");
+            System.setProperty("allure.results.directory", browserDir + "/allure-results");
+            logger.info("🧭 Browser matrix: running on {}", ConfigReader.getMatrixBrowser());
+            return;
+        }
+        if (count <= 1) {
+            addPlugins("html:target/cucumber-reports.html",
+                    "json:target/cucumber-reports/cucumber.json",
+                    "rerun:target/rerun.txt",
+                    TIMELINE_PLUGIN + ":target/step-timeline.json");
+            return;
+        }
+        if (index < 1 || index > count) {
+            throw new InitializationError("shard.index must be between 1 and " + count + ", got " + index);
+        }
+
+        String shardDir = ConfigReader.getShardOutputDir() + "/shard-" + index;
+        addPlugins("html:" + shardDir + "/cucumber-reports.html",
+                "json:" + shardDir + "/cucumber.json",
+                "rerun:" + shardDir + "/rerun.txt",
+                TIMELINE_PLUGIN + ":" + shardDir + "/step-timeline.json");
+        System.setProperty("allure.results.directory", shardDir + "/allure-results");
+
+        CucumberOptions options = clazz.getAnnotation(CucumberOptions.class);
+        String features = options != null && options.features().length > 0 ? options.features()[0] : DEFAULT_FEATURES;
+        String tags = System.getProperty("cucumber.filter.tags", options != null ? options.tags() : "");
+
+        try {
+            List<List<ShardPlanner.ScenarioRef>> plan = ShardPlanner.plan(Paths.get(features), tags,
+                    Paths.get(ConfigReader.getShardDurationsFile()), count);
+            String selection = ShardPlanner.toFeatureSelection(plan.get(index - 1));
+            if (selection.isEmpty()) {
+                // More shards than scenarios: select nothing rather than everything
+                System.setProperty("cucumber.filter.tags", NO_SCENARIOS_TAG + " and not " + NO_SCENARIOS_TAG);
+                logger.warn("🧩 Shard {}/{} has no scenarios to run", index, count);
+            } else {
+                System.setProperty("cucumber.features", selection);
+                logger.info("🧩 Running shard {}/{}: {}", index, count, selection);
+            }
+        } catch (Exception e) {
+            throw new InitializationError(e);
+        }
+    }
+
+    private static void addPlugins(String... plugins) {
+        String existing = System.getProperty("cucumber.plugin");
+        String added = String.join(",", plugins);
+        System.setProperty("cucumber.plugin", existing == null || existing.isBlank() ? added : existing + "," + added);
+    }
+}
@@ -1,7 +1,17 @@
 package com.automation.stepdefinitions;
 
+import com.automation.stubs.LocalStubs;
+import com.automation.utils.AgentCassette;
 import com.automation.utils.AllureReport;
+import com.automation.utils.AttachmentPipeline;
+import com.automation.utils.CommandMetrics;
+import com.automation.utils.ConfigReader;
 import com.automation.utils.DriverManager;
+import com.automation.utils.DriverPool;
+import com.automation.utils.ResourceBlocker;
+import com.automation.utils.ScreenshotEncoder;
+import com.automation.utils.StepTimelinePlugin;
+import com.automation.utils.WaitMetrics;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
@@ -10,16 +20,14 @@ import io.cucumber.java.Scenario;
 import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.WebDriver;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 
 /**
  * Cucumber Hooks for setup and teardown operations
- * Takes screenshot on pass/fail and ALWAYS closes browser after each scenario
+ * Takes screenshot on pass/fail (screenshot.*.mode) and ALWAYS returns the browser session after each scenario
  */
 public class Hooks {
     private static final Logger logger = LogManager.getLogger(Hooks.class);
@@ -28,6 +36,12 @@ public class Hooks {
     public static void setupExecution() {
         AllureReport.startupBanner();
         logger.info("========== Test Execution Started ==========");
+
+        // environment=local: serve the applications from in-process stubs instead of the deployed sites
+        LocalStubs.startIfLocal();
+
+        // Launch browsers in the background so the first @ui scenario doesn't wait for one
+        DriverManager.warmUp();
     }
 
     @Before
@@ -37,15 +51,20 @@ public class Hooks {
         Allure.feature(featureName);
         Allure.story(scenario.getName());
 
+        CommandMetrics.startScenario(scenario.getName());
+
         logger.info("🚀 Starting scenario: {}", scenario.getName());
         logger.info("   Feature: {}", featureName);
         logger.info("   Tags: {}", scenario.getSourceTagNames());
     }
 
     @Before("@ui")
-    public void setUpBrowser() {
-        logger.info("🌐 Initializing browser for UI test");
-        DriverManager.getDriver();
+    public void setUpBrowser(Scenario scenario) {
+        logger.info("🌐 Checking out browser session for UI test");
+        DriverManager.checkoutDriver();
+
+        // cassette.mode=record|replay: capture or serve this scenario's agent traffic
+        AgentCassette.start(getFeatureName(scenario), scenario.getName());
     }
 
     /**
@@ -56,10 +75,13 @@ public class Hooks {
     public void afterScenario(Scenario scenario) {
         logger.info("📋 After hook - scenario: {} [{}]", scenario.getName(), scenario.getStatus());
 
-        // Take screenshot for ALL scenarios (pass or fail) if driver exists
+        // Screenshot for every scenario with a browser, in the mode configured for its outcome
         if (DriverManager.hasDriver()) {
-            String screenshotName = scenario.isFailed() ? "❌ Failed Screenshot" : "✅ Final State";
-            takeScreenshot(scenario, screenshotName);
+            if (scenario.isFailed()) {
+                takeScreenshot("❌ Failed Screenshot", ScreenshotEncoder.failureMode());
+            } else {
+                takeScreenshot("✅ Final State", ScreenshotEncoder.passMode());
+            }
         }
 
         String emoji = scenario.isFailed() ? "❌" : "✅";
@@ -67,59 +89,111 @@ public class Hooks {
     }
 
     /**
-     * ALWAYS closes browser - runs last (order=0)
-     * This guarantees browser closes whether test passes or fails
+     * ALWAYS returns the browser session - runs last (order=0)
+     * Sessions from failed scenarios are quit; healthy ones go back to the pool.
+     * Queued attachments are collected here, before the scenario result is written
      */
     @After(order = 0)
     public void closeDriverAlways(Scenario scenario) {
-        logger.info("🔒 Closing browser...");
-        try {
-            DriverManager.closeDriver();
-            logger.info("✅ Browser closed successfully");
-        } catch (Exception e) {
-            logger.error("⚠️ Error closing browser: {}", e.getMessage());
-            // Force kill if normal close fails
-            forceKillDriver();
+        attachCommandMetrics();
+        attachStepTimings();
+        attachBlockedResources();
+
+        // The interceptor lives on the browser session, so stop it before the session is reused
+        AgentCassette.stop(scenario.isFailed());
+
+        if (DriverManager.hasDriver()) {
+            logger.info("🔒 Returning browser session...");
+            try {
+                DriverManager.releaseDriver(scenario.isFailed());
+                logger.info("✅ Browser session returned successfully");
+            } catch (Exception e) {
+                // releaseDriver already quit the session
+                logger.error("⚠️ Error returning browser session: {}", e.getMessage());
+            }
         }
+
+        // Screenshots were encoded and written while the session was being returned
+        attachPending(scenario);
     }
 
     @AfterAll
     public static void teardownExecution() {
         logger.info("========== Test Execution Completed ==========");
 
-        // Final safety net
-        if (DriverManager.hasDriver()) {
-            logger.warn("⚠️ Driver still open - forcing cleanup");
-            DriverManager.closeDriver();
+        DriverPool.Stats poolStats = DriverManager.getPoolStats();
+        if (poolStats != null) {
+            logger.info("📊 Browser pool - checkouts: {}, hits: {}, misses: {}, hit rate: {}%",
+                    poolStats.getCheckouts(), poolStats.getHits(), poolStats.getMisses(),
+                    Math.round(poolStats.getHitRate() * 100));
+            logger.info("📊 Browser pool - time to first driver: {} ms, average checkout: {} ms",
+                    poolStats.getTimeToFirstDriver() == null ? "n/a" : poolStats.getTimeToFirstDriver().toMillis(),
+                    poolStats.getAverageCheckoutTime().toMillis());
         }
 
+        DriverManager.logCommandSummary();
+        CommandMetrics.logSummary();
+        CommandMetrics.export(Paths.get(ConfigReader.getDriverCommandMetricsFile()));
+        WaitMetrics.logSummary();
+        ResourceBlocker.logSummary();
+        AttachmentPipeline.logSummary();
+
+        // Final safety net - quits every pooled and leaked session
+        DriverManager.shutdownPool();
+        LocalStubs.stopAll();
+
         AllureReport.generate();
     }
 
-    private void forceKillDriver() {
+    /**
+     * Only the raw capture happens here; decoding, hashing and writing run on the attachment pipeline
+     */
+    private void takeScreenshot(String screenshotName, ScreenshotEncoder.Mode mode) {
         try {
-            WebDriver driver = DriverManager.getExistingDriver();
-            if (driver != null) {
-                driver.quit();
-                logger.info("🔒 Force killed browser");
+            if (AttachmentPipeline.captureScreenshot(screenshotName, mode)) {
+                logger.info("📸 Screenshot captured: {} ({})", screenshotName, mode);
             }
         } catch (Exception e) {
-            logger.error("Force kill failed: {}", e.getMessage());
+            logger.error("❌ Screenshot failed: {}", e.getMessage());
         }
     }
 
-    private void takeScreenshot(Scenario scenario, String screenshotName) {
-        try {
-            WebDriver driver = DriverManager.getExistingDriver();
-            if (driver instanceof TakesScreenshot) {
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                scenario.attach(screenshot, "image/png", screenshotName);
-                Allure.addAttachment(screenshotName, "image/png",
-                        new ByteArrayInputStream(screenshot), "png");
-                logger.info("📸 Screenshot attached: {}", screenshotName);
-            }
-        } catch (Exception e) {
-            logger.error("❌ Screenshot failed: {}", e.getMessage());
+    /**
+     * Per-command counts and time of this scenario, before the session reset adds its own commands
+     */
+    private void attachCommandMetrics() {
+        String metrics = CommandMetrics.finishScenario();
+        if (metrics != null) {
+            AttachmentPipeline.attach("📡 WebDriver Commands", "application/json", "json",
+                    metrics.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void attachStepTimings() {
+        String timings = StepTimelinePlugin.currentScenarioSummary();
+        if (timings != null) {
+            AttachmentPipeline.attachText("⏱️ Step Timings", timings);
+        }
+    }
+
+    /**
+     * Requests the browser blocked this scenario, with estimated savings (network.block.*)
+     */
+    private void attachBlockedResources() {
+        ResourceBlocker.Stats blocked = DriverManager.drainBlockedResources();
+        if (blocked != null && !blocked.isEmpty()) {
+            logger.info("🚫 Blocked {} request(s) this scenario, estimated savings {} bytes",
+                    blocked.getRequests(), blocked.getEstimatedBytes());
+            AttachmentPipeline.attachText("🚫 Blocked Resources", blocked.toString());
+        }
+    }
+
+    /**
+     * Wait for this scenario's queued attachments and reference them from the Cucumber report
+     */
+    private void attachPending(Scenario scenario) {
+        for (AttachmentPipeline.Written attachment : AttachmentPipeline.flush()) {
+            scenario.attach(attachment.getUri(), "text/uri-list", attachment.getName());
         }
     }
 
@@ -1,8 +1,11 @@
 package com.automation.stepdefinitions;
 
+import com.automation.api.NomadTmsApiClient;
 import com.automation.pages.nomadtms.NomadTmsAgentPage;
 import com.automation.pages.nomadtms.NomadTmsDashboardPage;
 import com.automation.pages.nomadtms.NomadTmsLoginPage;
+import com.automation.utils.AuthStateCache;
+import com.automation.utils.BrowserUtils;
 import com.automation.utils.ConfigReader;
 import com.automation.utils.LLMResponseValidator;
 import com.automation.utils.LLMResponseValidator.ValidationResult;
@@ -23,28 +26,46 @@ public class NomadTmsAgentSteps {
     private final NomadTmsLoginPage loginPage = new NomadTmsLoginPage();
     private final NomadTmsDashboardPage dashboardPage = new NomadTmsDashboardPage();
     private final NomadTmsAgentPage agentPage = new NomadTmsAgentPage();
+    private final NomadTmsApiClient apiClient = new NomadTmsApiClient();
 
     private String lastAgentResponse = "";
 
     @Given("the user is logged in to Nomad TMS")
     public void theUserIsLoggedInToNomadTMS() {
-        loginPage.navigateToLoginPage();
-        assertTrue("Login page should be loaded", loginPage.isPageLoaded());
-        
+        String baseUrl = ConfigReader.getNomadTmsBaseUrl();
         String email = ConfigReader.getNomadTmsTestUserEmail();
         String password = ConfigReader.getNomadTmsTestUserPassword();
-        
-        loginPage.login(email, password);
+
+        // Log in over the API when possible; otherwise the full UI login runs once per user per run
+        // and later scenarios reuse the cached session state
+        boolean loggedIn = ConfigReader.isNomadTmsApiLoginEnabled() && loginViaApi(baseUrl, email, password);
+        loggedIn = loggedIn || AuthStateCache.login(baseUrl, email, password, baseUrl + "/dashboard",
+                () -> {
+                    loginPage.navigateToLoginPage();
+                    assertTrue("Login page should be loaded", loginPage.isPageLoaded());
+                    loginPage.login(email, password);
+                },
+                dashboardPage::isAuthenticated);
+
         logger.info("Logged in with email: {}", email);
-        
-        waitFor(3000);
-        assertTrue("User should be on dashboard after login", dashboardPage.isPageLoaded());
+        assertTrue("User should be on dashboard after login", loggedIn);
+    }
+
+    private boolean loginViaApi(String baseUrl, String email, String password) {
+        try {
+            NomadTmsApiClient.Session session = apiClient.login(email, password);
+            return AuthStateCache.injectSession(baseUrl, session.getCookies(), session.getLocalStorage(),
+                    baseUrl + "/dashboard", dashboardPage::isAuthenticated);
+        } catch (RuntimeException | AssertionError e) {
+            logger.warn("⚠️ API login failed, using the UI login: {}", e.getMessage());
+            return false;
+        }
     }
 
     @Given("the user navigates to the Agent chat page")
     public void theUserNavigatesToTheAgentChatPage() {
         agentPage.clickAgentMenu();
-        waitFor(1000);
+        BrowserUtils.waitForUrlContains("/agent");
         assertTrue("Agent page should be displayed", agentPage.isPageLoaded());
         logger.info("User is on Agent chat page");
     }
@@ -76,12 +97,4 @@ public class NomadTmsAgentSteps {
         assertTrue("Response should match expected behavior: " + expectedBehavior + 
                    ". Result: " + result.getMessage(), result.isPassed());
     }
-
-    private void waitFor(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
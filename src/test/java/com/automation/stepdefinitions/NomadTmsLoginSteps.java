@@ -70,23 +70,13 @@ public class NomadTmsLoginSteps {
 
     @Then("the Nomad TMS user should be redirected to the dashboard")
     public void theNomadTmsUserShouldBeRedirectedToTheDashboard() {
-        // Wait for navigation after login
-        try {
-            Thread.sleep(3000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // isPageLoaded waits for the post-login redirect
         assertTrue("User should be redirected to dashboard", dashboardPage.isPageLoaded());
         logger.info("User successfully redirected to Nomad TMS dashboard");
     }
 
     @Then("the Nomad TMS user should see a login error message")
     public void theNomadTmsUserShouldSeeALoginErrorMessage() {
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
         assertTrue("Login error message should be displayed", loginPage.isErrorMessageDisplayed());
         logger.info("Login error message displayed: {}", loginPage.getErrorMessageText());
     }
@@ -0,0 +1,205 @@
+package com.automation.stubs;
+
+import com.automation.utils.ConfigReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Jasalma Stub
+ * Local stand-in for https://www.jasalma.ai. It serves the two-step sign-in (/sign-in, then
+ * /sign-in/factor-one), sign-up, dashboard and /ai-chat pages with the selectors used by the
+ * Jasalma page objects. The AI Study chat streams canned replies from a deterministic mock LLM.
+ *
+ * The mock has two scripts:
+ * <ul>
+ *   <li>safe: refuses every injection and steers back to the course</li>
+ *   <li>vulnerable: executes the injected instruction (sings, tells the joke ...), so the
+ *       injection validators have something to catch</li>
+ * </ul>
+ * The default script and word delay come from config. POST /api/ai-chat/stream also accepts
+ * "mode" and "tokenDelayMs" in the body (the page forwards them from its ?mode= and
+ * ?tokenDelayMs= query parameters), so a load driver can replay both kinds of answer as fast
+ * as the validators can score them.
+ *
+ * The configured stub user (stub.jasalma.user.*) exists from the start. Sign-up ends on the
+ * email verification screen; those accounts cannot sign in.
+ */
+public class JasalmaStub extends StubServer {
+
+    public static final String MODE_SAFE = "safe";
+    public static final String MODE_VULNERABLE = "vulnerable";
+
+    private static final String SESSION_COOKIE = "__session";
+    private static final String PAGES = "stubs/jasalma/";
+    private static final String HTML = "text/html; charset=utf-8";
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    private final Map<String, String> users = new ConcurrentHashMap<>();
+    private final Map<String, String> pendingVerification = new ConcurrentHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, ScriptedAgent> agents = Map.of(
+            MODE_SAFE, ScriptedAgent.fromResource(PAGES + "agent-safe.json"),
+            MODE_VULNERABLE, ScriptedAgent.fromResource(PAGES + "agent-vulnerable.json"));
+    private final String defaultMode;
+    private final long tokenDelayMillis;
+    private final long sessionStartMillis;
+
+    /**
+     * @param port port on 127.0.0.1; 0 picks a free port
+     * @param defaultMode safe or vulnerable
+     * @param tokenDelayMillis pause between streamed words
+     * @param sessionStartMillis how long "Starting New Session" is shown before the chat is enabled
+     */
+    public JasalmaStub(int port, String defaultMode, long tokenDelayMillis, long sessionStartMillis) {
+        super("jasalma", port);
+        this.defaultMode = agents.containsKey(defaultMode) ? defaultMode : MODE_SAFE;
+        this.tokenDelayMillis = tokenDelayMillis;
+        this.sessionStartMillis = sessionStartMillis;
+        users.put(ConfigReader.getStubJasalmaUserEmail().toLowerCase(Locale.ROOT), ConfigReader.getStubJasalmaUserPassword());
+    }
+
+    @Override
+    protected void registerRoutes(HttpServer server) {
+        server.createContext("/", this::page);
+        server.createContext("/api/auth/identify", this::identify);
+        server.createContext("/api/auth/login", this::login);
+        server.createContext("/api/auth/register", this::register);
+        server.createContext("/api/auth/logout", this::logout);
+        server.createContext("/api/ai-chat/session", this::startSession);
+        server.createContext("/api/ai-chat/stream", this::chat);
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        switch (path) {
+            case "/":
+                sendResource(exchange, PAGES + "index.html", HTML);
+                break;
+            case "/app.css":
+                sendResource(exchange, PAGES + "app.css", "text/css; charset=utf-8");
+                break;
+            case "/sign-in":
+                sendResource(exchange, PAGES + "sign-in.html", HTML);
+                break;
+            case "/sign-in/factor-one":
+                sendResource(exchange, PAGES + "factor-one.html", HTML);
+                break;
+            case "/sign-up":
+                sendResource(exchange, PAGES + "sign-up.html", HTML);
+                break;
+            case "/dashboard":
+            case "/ai-chat":
+                // Signed-out visitors are sent to sign-in, as the real auth middleware does
+                if (currentUser(exchange) == null) {
+                    redirect(exchange, "/sign-in");
+                } else {
+                    sendResource(exchange, PAGES + path.substring(1) + ".html", HTML);
+                }
+                break;
+            default:
+                sendText(exchange, 404, "text/plain", "Not found");
+        }
+    }
+
+    private void identify(HttpExchange exchange) throws IOException {
+        String email = readJson(exchange).path("email").asText("").trim().toLowerCase(Locale.ROOT);
+        if (!users.containsKey(email)) {
+            sendJson(exchange, 404, Map.of("error", "Couldn't find your account."));
+            return;
+        }
+        sendJson(exchange, 200, Map.of("email", email));
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        JsonNode body = readJson(exchange);
+        String email = body.path("email").asText("").trim().toLowerCase(Locale.ROOT);
+        String password = users.get(email);
+        if (password == null || !password.equals(body.path("password").asText(""))) {
+            sendJson(exchange, 422, Map.of("error", "Password is incorrect. Try again, or use another method."));
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, email);
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/; HttpOnly; SameSite=Lax");
+        sendJson(exchange, 200, Map.of("email", email));
+    }
+
+    private void register(HttpExchange exchange) throws IOException {
+        JsonNode body = readJson(exchange);
+        String email = body.path("email").asText("").trim().toLowerCase(Locale.ROOT);
+        String password = body.path("password").asText("");
+        if (!EMAIL.matcher(email).matches()) {
+            sendJson(exchange, 422, Map.of("error", "Email address must be a valid email address."));
+            return;
+        }
+        if (password.length() < MIN_PASSWORD_LENGTH) {
+            sendJson(exchange, 422, Map.of("error", "Passwords must be 8 characters or more."));
+            return;
+        }
+        if (users.containsKey(email)) {
+            sendJson(exchange, 422, Map.of("error", "That email address is taken. Please try another."));
+            return;
+        }
+        // New accounts must verify their email before they can sign in; signing up again with an
+        // unverified address just resends the code, so repeated runs land on the same screen
+        pendingVerification.put(email, password);
+        logger.info("🧪 Stub sign-up awaiting email verification: {}", email);
+        sendJson(exchange, 200, Map.of("email", email, "verification", "email_code"));
+    }
+
+    private void logout(HttpExchange exchange) throws IOException {
+        String token = getCookie(exchange, SESSION_COOKIE);
+        if (token != null) {
+            sessions.remove(token);
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+        sendJson(exchange, 200, Map.of("ok", true));
+    }
+
+    private void startSession(HttpExchange exchange) throws IOException {
+        if (currentUser(exchange) == null) {
+            sendJson(exchange, 401, Map.of("error", "Not authenticated"));
+            return;
+        }
+        JsonNode body = readJson(exchange);
+        try {
+            // Stands in for the agent warm-up the real service does before the first message
+            Thread.sleep(sessionStartMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sendJson(exchange, 200, Map.of(
+                "sessionId", UUID.randomUUID().toString(),
+                "welcome", "Welcome to your learning session on " + body.path("course").asText("the course")
+                        + "! Ask me anything about the lessons, concepts or exercises."));
+    }
+
+    private void chat(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+            return;
+        }
+        if (currentUser(exchange) == null) {
+            sendJson(exchange, 401, Map.of("error", "Not authenticated"));
+            return;
+        }
+        JsonNode body = readJson(exchange);
+        ScriptedAgent agent = agents.getOrDefault(body.path("mode").asText(defaultMode), agents.get(defaultMode));
+        long delay = body.path("tokenDelayMs").asLong(tokenDelayMillis);
+        streamText(exchange, agent.reply(body.path("message").asText("")), delay);
+    }
+
+    private String currentUser(HttpExchange exchange) {
+        String token = getCookie(exchange, SESSION_COOKIE);
+        return token == null ? null : sessions.get(token);
+    }
+}
@@ -0,0 +1,74 @@
+package com.automation.stubs;
+
+import com.automation.utils.ConfigReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+
+/**
+ * Local Stubs
+ * Starts the application stubs when environment=local and points the configuration at them:
+ * the stub's base URL is set as a system property for each of the application's URL keys and
+ * the configuration is reloaded, so pages and steps keep reading their URLs from ConfigReader.
+ *
+ * Started once per JVM from Hooks; every shard or parallel suite gets its own free port.
+ */
+public class LocalStubs {
+    private static final Logger logger = LogManager.getLogger(LocalStubs.class);
+
+    private static NomadTmsStub nomadTms;
+    private static JasalmaStub jasalma;
+
+    private LocalStubs() {
+        // Private constructor
+    }
+
+    /**
+     * Start the stubs if the run targets the local environment; no-op otherwise or if already started
+     */
+    public static synchronized void startIfLocal() {
+        if (!ConfigReader.isLocalEnvironment() || nomadTms != null) {
+            return;
+        }
+        try {
+            nomadTms = new NomadTmsStub(ConfigReader.getStubNomadTmsPort(), ConfigReader.getStubStreamTokenDelayMs());
+            String baseUrl = nomadTms.start();
+            override("nomadtms.base.url", baseUrl);
+            override("nomadtms.login.url", baseUrl);
+            override("nomadtms.signup.url", baseUrl);
+            override("nomadtms.api.base.url", baseUrl + "/api");
+            override("base.url", baseUrl);
+            override("api.base.url", baseUrl + "/api");
+
+            jasalma = new JasalmaStub(ConfigReader.getStubJasalmaPort(), ConfigReader.getStubJasalmaAgentMode(),
+                    ConfigReader.getStubStreamTokenDelayMs(), ConfigReader.getStubJasalmaSessionStartMs());
+            override("jasalma.base.url", jasalma.start());
+        } catch (IOException e) {
+            stopAll();
+            throw new RuntimeException("Could not start the local stubs", e);
+        }
+        ConfigReader.reload();
+        logger.info("🧪 Local environment: Nomad TMS served from {}", ConfigReader.getNomadTmsBaseUrl());
+        logger.info("🧪 Local environment: Jasalma AI served from {} (agent: {})",
+                ConfigReader.getJasalmaBaseUrl(), ConfigReader.getStubJasalmaAgentMode());
+    }
+
+    /**
+     * Stop every running stub
+     */
+    public static synchronized void stopAll() {
+        if (nomadTms != null) {
+            nomadTms.stop();
+            nomadTms = null;
+        }
+        if (jasalma != null) {
+            jasalma.stop();
+            jasalma = null;
+        }
+    }
+
+    private static void override(String key, String value) {
+        System.setProperty(key, value);
+    }
+}
@@ -0,0 +1,196 @@
+package com.automation.stubs;
+
+import com.automation.utils.ConfigReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Nomad TMS Stub
+ * Local stand-in for https://nomadtms.up.railway.app. It serves the home page with the
+ * login/sign-up modal, the dashboard and the /agent chat, using the same DOM contracts as
+ * NomadTmsLoginPage, NomadTmsSignUpPage, NomadTmsDashboardPage and NomadTmsAgentPage. Behind
+ * them is an in-memory auth API and a scripted agent that streams its reply word by word.
+ *
+ * The configured test user (nomadtms.test.user.*) exists from the start. Accounts created
+ * through sign-up live until the stub stops.
+ */
+public class NomadTmsStub extends StubServer {
+
+    private static final String SESSION_COOKIE = "nomadtms_session";
+
+    private static final String PAGES = "stubs/nomadtms/";
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MIN_PASSWORD_LENGTH = 8;
+
+    private final Map<String, User> users = new ConcurrentHashMap<>();
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final ScriptedAgent agent = ScriptedAgent.fromResource(PAGES + "agent-script.json");
+    private final long tokenDelayMillis;
+
+    public NomadTmsStub(int port, long tokenDelayMillis) {
+        super("nomadtms", port);
+        this.tokenDelayMillis = tokenDelayMillis;
+        addUser(ConfigReader.getNomadTmsTestUserEmail(), ConfigReader.getNomadTmsTestUserPassword(),
+                ConfigReader.getNomadTmsTestUserFirstName(), ConfigReader.getNomadTmsTestUserLastName(),
+                ConfigReader.getNomadTmsTestUserOrganization());
+    }
+
+    @Override
+    protected void registerRoutes(HttpServer server) {
+        server.createContext("/", this::page);
+        server.createContext("/api/auth/login", this::login);
+        server.createContext("/api/auth/register", this::register);
+        server.createContext("/api/auth/logout", this::logout);
+        server.createContext("/api/auth/me", this::me);
+        server.createContext("/api/agent/chat", this::chat);
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        switch (path) {
+            case "/":
+            case "/index.html":
+                sendResource(exchange, PAGES + "index.html", "text/html; charset=utf-8");
+                break;
+            case "/app.css":
+                sendResource(exchange, PAGES + "app.css", "text/css; charset=utf-8");
+                break;
+            case "/dashboard":
+            case "/agent":
+                // Authenticated pages bounce to the home page without a session, like the real app
+                if (currentUser(exchange) == null) {
+                    redirect(exchange, "/");
+                } else {
+                    sendResource(exchange, PAGES + path.substring(1) + ".html", "text/html; charset=utf-8");
+                }
+                break;
+            default:
+                sendText(exchange, 404, "text/plain", "Not found");
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+            return;
+        }
+        JsonNode body = readJson(exchange);
+        String email = body.path("email").asText("").trim().toLowerCase(Locale.ROOT);
+        User user = users.get(email);
+        if (user == null || !user.password.equals(body.path("password").asText(""))) {
+            sendJson(exchange, 401, Map.of("error", "Invalid email or password"));
+            return;
+        }
+        startSession(exchange, email, user);
+    }
+
+    private void register(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+            return;
+        }
+        JsonNode body = readJson(exchange);
+        String email = body.path("email").asText("").trim().toLowerCase(Locale.ROOT);
+        String password = body.path("password").asText("");
+        String firstName = body.path("firstName").asText("").trim();
+        String lastName = body.path("lastName").asText("").trim();
+        String organization = body.path("organizationName").asText("").trim();
+
+        // Same rules as the client-side validation, for requests that bypass the form
+        if (firstName.isEmpty() || lastName.isEmpty() || organization.isEmpty()
+                || !EMAIL.matcher(email).matches() || password.length() < MIN_PASSWORD_LENGTH) {
+            sendJson(exchange, 400, Map.of("error", "Please fill in all fields correctly"));
+            return;
+        }
+        User user = new User(password, firstName, lastName, organization);
+        if (users.putIfAbsent(email, user) != null) {
+            sendJson(exchange, 409, Map.of("error", "An account with this email already exists"));
+            return;
+        }
+        logger.info("🧪 Registered stub user {}", email);
+        startSession(exchange, email, user);
+    }
+
+    private void logout(HttpExchange exchange) throws IOException {
+        String token = getCookie(exchange, SESSION_COOKIE);
+        if (token != null) {
+            sessions.remove(token);
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+        sendJson(exchange, 200, Map.of("ok", true));
+    }
+
+    private void me(HttpExchange exchange) throws IOException {
+        String email = currentUser(exchange);
+        if (email == null) {
+            sendJson(exchange, 401, Map.of("error", "Not authenticated"));
+            return;
+        }
+        sendJson(exchange, 200, users.get(email).toJson(email));
+    }
+
+    private void chat(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            sendJson(exchange, 405, Map.of("error", "Method not allowed"));
+            return;
+        }
+        if (currentUser(exchange) == null) {
+            sendJson(exchange, 401, Map.of("error", "Not authenticated"));
+            return;
+        }
+        String message = readJson(exchange).path("message").asText("");
+        streamText(exchange, agent.reply(message), tokenDelayMillis);
+    }
+
+    private void startSession(HttpExchange exchange, String email, User user) throws IOException {
+        String token = UUID.randomUUID().toString();
+        sessions.put(token, email);
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + token + "; Path=/; HttpOnly; SameSite=Lax");
+        Map<String, Object> response = user.toJson(email);
+        response.put("token", token);
+        sendJson(exchange, 200, response);
+    }
+
+    private String currentUser(HttpExchange exchange) {
+        String token = getCookie(exchange, SESSION_COOKIE);
+        return token == null ? null : sessions.get(token);
+    }
+
+    private void addUser(String email, String password, String firstName, String lastName, String organization) {
+        if (email != null && password != null) {
+            users.put(email.toLowerCase(Locale.ROOT), new User(password, firstName, lastName, organization));
+        }
+    }
+
+    private static class User {
+        private final String password;
+        private final String firstName;
+        private final String lastName;
+        private final String organization;
+
+        User(String password, String firstName, String lastName, String organization) {
+            this.password = password;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.organization = organization;
+        }
+
+        Map<String, Object> toJson(String email) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("email", email);
+            json.put("firstName", firstName);
+            json.put("lastName", lastName);
+            json.put("organizationName", organization);
+            return json;
+        }
+    }
+}
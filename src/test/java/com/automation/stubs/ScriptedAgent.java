@@ -0,0 +1,100 @@
+package com.automation.stubs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scripted Agent
+ * Deterministic replies for the stubbed chat agents. A script is a JSON resource:
+ * <pre>
+ * {
+ *   "default": "reply when no rule matches",
+ *   "rules": [
+ *     { "name": "greeting", "match": ["hello", "hi", "good morning"], "reply": "..." }
+ *   ]
+ * }
+ * </pre>
+ * Rules are tried in order and the first one with a matching term wins. Terms match whole
+ * words (or whole phrases), case-insensitively, so "hi" does not match "this".
+ */
+public class ScriptedAgent {
+
+    private final List<Rule> rules;
+    private final String defaultReply;
+
+    private ScriptedAgent(List<Rule> rules, String defaultReply) {
+        this.rules = Collections.unmodifiableList(rules);
+        this.defaultReply = defaultReply;
+    }
+
+    /**
+     * Load a script from the classpath
+     * @param resource e.g. stubs/nomadtms/agent-script.json
+     */
+    public static ScriptedAgent fromResource(String resource) {
+        try (InputStream in = ScriptedAgent.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Agent script not found: " + resource);
+            }
+            JsonNode script = new ObjectMapper().readTree(in);
+            List<Rule> rules = new ArrayList<>();
+            for (JsonNode rule : script.path("rules")) {
+                List<String> terms = new ArrayList<>();
+                rule.path("match").forEach(term -> terms.add(normalize(term.asText())));
+                rules.add(new Rule(rule.path("name").asText("rule-" + rules.size()), terms, rule.path("reply").asText()));
+            }
+            return new ScriptedAgent(rules, script.path("default").asText());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read agent script " + resource, e);
+        }
+    }
+
+    /**
+     * @param message user message
+     * @return reply of the first matching rule, or the default reply
+     */
+    public String reply(String message) {
+        String text = normalize(message);
+        for (Rule rule : rules) {
+            for (String term : rule.terms) {
+                if (text.contains(term)) {
+                    return rule.reply;
+                }
+            }
+        }
+        return defaultReply;
+    }
+
+    /**
+     * Lower-case words separated by single spaces, padded so " term " matches whole words only
+     */
+    private static String normalize(String text) {
+        String words = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+        return " " + words + " ";
+    }
+
+    private static class Rule {
+        private final String name;
+        private final List<String> terms;
+        private final String reply;
+
+        Rule(String name, List<String> terms, String reply) {
+            this.name = name;
+            this.terms = terms;
+            this.reply = reply;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.automation.stubs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub Server
+ * Base for the in-process stand-ins of the applications under test. Each stub binds to the
+ * loopback interface, registers its pages and API routes in {@link #registerRoutes(HttpServer)}
+ * and serves every request on its own thread, so parallel browsers never queue behind a
+ * streaming response.
+ *
+ * Pages are served from the classpath (src/test/resources/stubs/...). Helpers cover the few
+ * response types the stubs need: classpath resources, JSON, redirects and chunked text streams.
+ */
+public abstract class StubServer {
+    protected final Logger logger = LogManager.getLogger(getClass());
+
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every response on a
+        // kept-alive connection waits for the client's delayed ACK (~40 ms)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final String name;
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param name stub name, used for thread names and logs
+     * @param port port to bind on 127.0.0.1; 0 picks a free port
+     */
+    protected StubServer(String name, int port) {
+        this.name = name;
+        this.port = port;
+    }
+
+    /**
+     * Register the stub's contexts on a freshly created server
+     */
+    protected abstract void registerRoutes(HttpServer server);
+
+    /**
+     * Bind and start serving
+     * @return base URL without trailing slash, e.g. http://127.0.0.1:52311
+     */
+    public synchronized String start() throws IOException {
+        if (server != null) {
+            return getBaseUrl();
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-stub-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        registerRoutes(server);
+        server.start();
+        logger.info("🧪 {} stub listening on {}", name, getBaseUrl());
+        return getBaseUrl();
+    }
+
+    /**
+     * Stop serving; in-flight streams are given a second to finish
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(1);
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        logger.info("🧪 {} stub stopped", name);
+    }
+
+    public String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException(name + " stub is not running");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // ==================== Response Helpers ====================
+
+    /**
+     * Serve a classpath resource
+     * @param resource path under the classpath root, e.g. stubs/nomadtms/index.html
+     */
+    protected void sendResource(HttpExchange exchange, String resource, String contentType) throws IOException {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                sendText(exchange, 404, "text/plain", "Not found: " + resource);
+                return;
+            }
+            sendBytes(exchange, 200, contentType, in.readAllBytes());
+        }
+    }
+
+    protected void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        sendBytes(exchange, status, "application/json", MAPPER.writeValueAsBytes(body));
+    }
+
+    protected void sendText(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        sendBytes(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    /**
+     * Stream text word by word in HTTP chunks, like an LLM streaming its answer
+     * @param tokenDelayMillis pause between words
+     */
+    protected void streamText(HttpExchange exchange, String text, long tokenDelayMillis) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            String[] words = text.split("(?<= )");
+            for (String word : words) {
+                out.write(word.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (tokenDelayMillis > 0) {
+                    Thread.sleep(tokenDelayMillis);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected JsonNode readJson(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readAllBytes();
+            return body.length == 0 ? MAPPER.createObjectNode() : MAPPER.readTree(body);
+        }
+    }
+
+    /**
+     * @return value of a request cookie, or null
+     */
+    protected String getCookie(HttpExchange exchange, String cookieName) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String pair : header.split(";")) {
+                String[] parts = pair.trim().split("=", 2);
+                if (parts.length == 2 && parts[0].equals(cookieName)) {
+                    return parts[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    private void sendBytes(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
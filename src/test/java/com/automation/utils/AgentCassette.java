@@ -0,0 +1,395 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Agent Cassette
+ * Records the browser's agent API traffic per scenario and replays it later, so agent
+ * scenarios can rerun without the live model. Requests are intercepted through Chrome
+ * DevTools (Selenium's {@link NetworkInterceptor}); only URLs matching cassette.url.pattern
+ * are touched, pages and everything else go to the network as usual.
+ *
+ * Modes (cassette.mode):
+ * <ul>
+ *   <li>off: no interception</li>
+ *   <li>record: requests go to the network; responses are captured and written when the
+ *       scenario passes</li>
+ *   <li>replay: responses come from the cassette; a request without a recording gets a 404
+ *       and is logged, it never reaches the network</li>
+ * </ul>
+ *
+ * One gzip JSON cassette per scenario: {cassette.dir}/{feature}/{scenario}.json.gz. Inside,
+ * interactions are keyed by a SHA-256 of method, path, query and body, so the host does not
+ * matter (a cassette recorded on the deployed app replays against the local stubs) and each
+ * lookup is a single map get. A request sent several times replays its responses in order.
+ * Scenario outline examples share one cassette; their requests differ, so they merge.
+ */
+public class AgentCassette {
+    private static final Logger logger = LogManager.getLogger(AgentCassette.class);
+
+    public static final String MODE_OFF = "off";
+    public static final String MODE_RECORD = "record";
+    public static final String MODE_REPLAY = "replay";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SUFFIX = ".json.gz";
+    private static final int VERSION = 1;
+
+    // Replayed bodies are already decoded and complete, so these must not be copied back
+    private static final Set<String> SKIPPED_HEADERS =
+            Set.of("content-length", "content-encoding", "transfer-encoding", "connection", "keep-alive");
+
+    private static final ThreadLocal<Session> current = new ThreadLocal<>();
+
+    private AgentCassette() {
+        // Private constructor
+    }
+
+    /**
+     * Start recording or replaying for the current thread's browser session; no-op when
+     * cassette.mode=off or the browser has no DevTools (Firefox, Safari)
+     * @param featureName feature the scenario belongs to
+     * @param scenarioName scenario name
+     */
+    public static void start(String featureName, String scenarioName) {
+        String mode = ConfigReader.getCassetteMode().toLowerCase(Locale.ROOT);
+        if (MODE_OFF.equals(mode) || current.get() != null) {
+            return;
+        }
+        if (!MODE_RECORD.equals(mode) && !MODE_REPLAY.equals(mode)) {
+            logger.warn("⚠️ Unknown cassette.mode '{}', running against the live agent", mode);
+            return;
+        }
+        WebDriver driver = DriverManager.getDriver();
+        if (!(driver instanceof HasDevTools)) {
+            logger.warn("⚠️ Cassette {} needs Chrome DevTools; running against the live agent", mode);
+            return;
+        }
+
+        Path file = cassetteFile(featureName, scenarioName);
+        Session session = new Session(mode, file, scenarioName);
+        if (MODE_REPLAY.equals(mode)) {
+            if (!Files.isRegularFile(file)) {
+                logger.warn("📼 No cassette for '{}' at {}; agent requests will not be answered", scenarioName, file);
+            } else {
+                session.cassette.load(file);
+                logger.info("📼 Replaying {} recorded request(s) from {}", session.cassette.size(), file);
+            }
+        }
+        session.driver = (HasDevTools) driver;
+        session.interceptor = new NetworkInterceptor(driver, session.filter());
+        current.set(session);
+        logger.info("📼 Cassette {} started for scenario: {}", mode, scenarioName);
+    }
+
+    /**
+     * Stop intercepting; in record mode the cassette is written unless the scenario failed.
+     * Must run before the browser session is returned to the pool.
+     * @param failed true if the scenario failed
+     */
+    public static void stop(boolean failed) {
+        Session session = current.get();
+        if (session == null) {
+            return;
+        }
+        current.remove();
+        try {
+            session.interceptor.close();
+        } catch (Exception e) {
+            logger.debug("Network interceptor close failed: {}", e.getMessage());
+        }
+        try {
+            // close() only resets the filter; Fetch interception and the disabled network cache
+            // would otherwise stay on for every later scenario on this pooled browser
+            session.driver.getDevTools().getDomains().network().disable();
+        } catch (Exception e) {
+            logger.debug("Network domain disable failed: {}", e.getMessage());
+        }
+
+        if (MODE_REPLAY.equals(session.mode)) {
+            logger.info("📼 Replay finished for '{}' - replayed: {}, missed: {}",
+                    session.scenarioName, session.replayed.get(), session.missed.get());
+            return;
+        }
+        if (failed) {
+            logger.warn("📼 Scenario failed, recording not saved: {}", session.scenarioName);
+            return;
+        }
+        if (session.cassette.size() == 0) {
+            logger.info("📼 No agent traffic recorded for: {}", session.scenarioName);
+            return;
+        }
+        try {
+            int total = save(session.file, session.cassette);
+            logger.info("📼 Recorded {} request(s) to {} ({} in cassette)",
+                    session.cassette.size(), session.file, total);
+        } catch (IOException e) {
+            logger.error("❌ Could not write cassette {}: {}", session.file, e.getMessage());
+        }
+    }
+
+    /**
+     * Cassette file for a scenario
+     */
+    static Path cassetteFile(String featureName, String scenarioName) {
+        return Paths.get(ConfigReader.getCassetteDir(), slug(featureName), slug(scenarioName) + SUFFIX);
+    }
+
+    /**
+     * Request key: SHA-256 of method, path with query, and body. The host is left out
+     * so one cassette serves every environment.
+     */
+    static String requestHash(String method, String uri, byte[] body) {
+        URI parsed = URI.create(uri);
+        String target = parsed.getRawPath() + (parsed.getRawQuery() == null ? "" : "?" + parsed.getRawQuery());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(target.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Merge the recording into the cassette on disk (outline examples and reruns add to it)
+     * @return number of request keys in the written cassette
+     */
+    private static int save(Path file, Cassette recorded) throws IOException {
+        // Parallel examples of one outline write the same file
+        synchronized (AgentCassette.class) {
+            Cassette merged = new Cassette();
+            if (Files.isRegularFile(file)) {
+                merged.load(file);
+            }
+            merged.interactions.putAll(recorded.interactions);
+
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                MAPPER.writeValue(out, merged.toJson());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            return merged.size();
+        }
+    }
+
+    private static String slug(String name) {
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        return slug.isEmpty() ? "unnamed" : slug;
+    }
+
+    private static boolean isText(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/") || type.contains("json") || type.contains("xml") || type.contains("javascript");
+    }
+
+    /**
+     * Interception state of one scenario. The filter runs on the DevTools event thread.
+     */
+    private static class Session {
+        private final String mode;
+        private final Path file;
+        private final String scenarioName;
+        private final Pattern urlPattern = Pattern.compile(ConfigReader.getCassetteUrlPattern());
+        private final Cassette cassette = new Cassette();
+        private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+        private final AtomicInteger replayed = new AtomicInteger();
+        private final AtomicInteger missed = new AtomicInteger();
+        private HasDevTools driver;
+        private NetworkInterceptor interceptor;
+
+        Session(String mode, Path file, String scenarioName) {
+            this.mode = mode;
+            this.file = file;
+            this.scenarioName = scenarioName;
+        }
+
+        Filter filter() {
+            return next -> request -> {
+                if (!urlPattern.matcher(request.getUri()).find()) {
+                    return next.execute(request);
+                }
+                // Read the body once; the request still has to be sent in record mode
+                byte[] body = Contents.bytes(request.getContent());
+                request.setContent(Contents.bytes(body));
+                String hash = requestHash(request.getMethod().toString(), request.getUri(), body);
+                return MODE_REPLAY.equals(mode) ? replay(request, hash) : record(next.execute(request), request, hash);
+            };
+        }
+
+        private HttpResponse record(HttpResponse response, HttpRequest request, String hash) {
+            byte[] body = Contents.bytes(response.getContent());
+            response.setContent(Contents.bytes(body));
+            cassette.add(hash, Interaction.from(request, response, body));
+            logger.debug("📼 Recorded {} {} -> {}", request.getMethod(), request.getUri(), response.getStatus());
+            return response;
+        }
+
+        private HttpResponse replay(HttpRequest request, String hash) {
+            List<Interaction> recorded = cassette.interactions.get(hash);
+            if (recorded == null) {
+                missed.incrementAndGet();
+                logger.error("❌ No recorded response for {} {} in {}", request.getMethod(), request.getUri(), file);
+                return new HttpResponse()
+                        .setStatus(404)
+                        .setHeader("Content-Type", "application/json")
+                        .setContent(Contents.utf8String("{\"error\":\"No recorded response in cassette\"}"));
+            }
+            // Repeated requests get their responses in recorded order; the last one repeats
+            int index = cursors.computeIfAbsent(hash, key -> new AtomicInteger()).getAndIncrement();
+            replayed.incrementAndGet();
+            return recorded.get(Math.min(index, recorded.size() - 1)).toResponse();
+        }
+    }
+
+    /**
+     * Recorded interactions by request hash
+     */
+    private static class Cassette {
+        private final Map<String, List<Interaction>> interactions = new ConcurrentHashMap<>();
+
+        void add(String hash, Interaction interaction) {
+            interactions.computeIfAbsent(hash, key -> new CopyOnWriteArrayList<>()).add(interaction);
+        }
+
+        int size() {
+            return interactions.size();
+        }
+
+        void load(Path file) {
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+                JsonNode root = MAPPER.readTree(in);
+                root.path("interactions").fields().forEachRemaining(entry -> {
+                    List<Interaction> responses = new ArrayList<>();
+                    entry.getValue().forEach(node -> responses.add(Interaction.fromJson(node)));
+                    interactions.put(entry.getKey(), responses);
+                });
+            } catch (IOException e) {
+                logger.error("❌ Could not read cassette {}: {}", file, e.getMessage());
+            }
+        }
+
+        ObjectNode toJson() {
+            ObjectNode root = MAPPER.createObjectNode();
+            root.put("version", VERSION);
+            root.put("recordedAt", Instant.now().toString());
+            ObjectNode byHash = root.putObject("interactions");
+            interactions.forEach((hash, responses) -> {
+                ArrayNode list = byHash.putArray(hash);
+                responses.forEach(interaction -> list.add(interaction.toJson()));
+            });
+            return root;
+        }
+    }
+
+    /**
+     * One request with the response it got. Text bodies are kept as text, anything else as base64.
+     */
+    private static class Interaction {
+        private final String method;
+        private final String url;
+        private final int status;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        private Interaction(String method, String url, int status, Map<String, String> headers, byte[] body) {
+            this.method = method;
+            this.url = url;
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        static Interaction from(HttpRequest request, HttpResponse response, byte[] body) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            response.forEachHeader((name, value) -> {
+                if (!SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    headers.merge(name, value, (first, second) -> first + ", " + second);
+                }
+            });
+            return new Interaction(request.getMethod().toString(), request.getUri(), response.getStatus(), headers, body);
+        }
+
+        static Interaction fromJson(JsonNode node) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            node.path("headers").fields().forEachRemaining(entry -> headers.put(entry.getKey(), entry.getValue().asText()));
+            byte[] body = node.has("bodyBase64")
+                    ? Base64.getDecoder().decode(node.path("bodyBase64").asText())
+                    : node.path("body").asText("").getBytes(StandardCharsets.UTF_8);
+            return new Interaction(node.path("method").asText(), node.path("url").asText(),
+                    node.path("status").asInt(200), headers, body);
+        }
+
+        ObjectNode toJson() {
+            ObjectNode node = MAPPER.createObjectNode();
+            node.put("method", method);
+            node.put("url", url);
+            node.put("status", status);
+            ObjectNode headerNode = node.putObject("headers");
+            headers.forEach(headerNode::put);
+            String contentType = headers.entrySet().stream()
+                    .filter(entry -> entry.getKey().equalsIgnoreCase("Content-Type"))
+                    .map(Map.Entry::getValue)
+                    .findFirst().orElse(null);
+            if (isText(contentType)) {
+                node.put("body", new String(body, StandardCharsets.UTF_8));
+            } else {
+                node.put("bodyBase64", Base64.getEncoder().encodeToString(body));
+            }
+            return node;
+        }
+
+        HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(status);
+            headers.forEach(response::addHeader);
+            return response.setContent(Contents.bytes(body));
+        }
+    }
+}
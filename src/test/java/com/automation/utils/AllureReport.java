@@ -4,9 +4,8 @@ import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Allure Report Utility
@@ -15,6 +14,9 @@ import java.io.InputStreamReader;
 public class AllureReport {
     private static final Logger logger = LogManager.getLogger(AllureReport.class);
 
+    private static final String ALLURE_REPORT_DIR = "target/allure-report";
+    private static final AtomicBoolean GENERATED = new AtomicBoolean();
+
     /**
      * Display startup banner
      */
@@ -60,9 +62,8 @@ public class AllureReport {
      */
     public static void addScreenshot(String name, byte[] screenshot) {
         try {
-            Allure.addAttachment(name, "image/png", 
-                    new ByteArrayInputStream(screenshot), "png");
-            logger.debug("Screenshot attached to Allure: {}", name);
+            AttachmentPipeline.attach(name, "image/png", "png", screenshot);
+            logger.debug("Screenshot queued for Allure: {}", name);
         } catch (Exception e) {
             logger.warn("Failed to add screenshot to Allure: {}", e.getMessage());
         }
@@ -109,54 +110,36 @@ public class AllureReport {
 
     /**
      * Generate Allure report
-     * Attempts to run 'allure generate' command if Allure CLI is available
+     * Builds the report in process, once per run; later calls (e.g. from both the
+     * Cucumber hooks and the JUnit runner) are ignored
      */
     public static void generate() {
-        try {
-            String allureResultsDir = System.getProperty("allure.results.directory", "target/allure-results");
-            String allureReportDir = "target/allure-report";
+        if (ConfigReader.getShardCount() > 1) {
+            // Each shard only holds part of the results; ShardReportMerger builds the combined report
+            logger.info("Sharded run - skipping Allure report generation for this shard");
+            return;
+        }
+        if (ConfigReader.isBrowserMatrixRun()) {
+            // BrowserMatrix builds one report from every browser's results
+            logger.info("Browser matrix run - skipping Allure report generation for {}", ConfigReader.getMatrixBrowser());
+            return;
+        }
+        generate(System.getProperty("allure.results.directory", "target/allure-results"));
+    }
 
+    /**
+     * Generate Allure report from a results directory
+     * @param allureResultsDir Allure results directory
+     */
+    public static void generate(String allureResultsDir) {
+        if (!GENERATED.compareAndSet(false, true)) {
+            logger.debug("Allure report already generated for this run");
+            return;
+        }
+        try {
             logger.info("Generating Allure report from: {}", allureResultsDir);
-
-            // Check if Allure CLI is available
-            ProcessBuilder processBuilder = new ProcessBuilder("allure", "--version");
-            Process versionProcess = processBuilder.start();
-            int versionExitCode = versionProcess.waitFor();
-
-            if (versionExitCode != 0) {
-                logger.warn("Allure CLI not found. Skipping report generation.");
-                logger.info("To generate report manually, run: allure generate {} -o {}", allureResultsDir, allureReportDir);
-                return;
-            }
-
-            // Generate Allure report
-            ProcessBuilder generateBuilder = new ProcessBuilder(
-                    "allure", "generate",
-                    allureResultsDir,
-                    "-o", allureReportDir,
-                    "--clean"
-            );
-
-            Process generateProcess = generateBuilder.start();
-
-            // Read output
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(generateProcess.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    logger.debug("Allure: {}", line);
-                }
-            }
-
-            int exitCode = generateProcess.waitFor();
-
-            if (exitCode == 0) {
-                logger.info("Allure report generated successfully at: {}", allureReportDir);
-                logger.info("To view report, run: allure open {}", allureReportDir);
-            } else {
-                logger.warn("Allure report generation completed with exit code: {}", exitCode);
-            }
-
+            AllureReportBuilder.build(Paths.get(allureResultsDir), Paths.get(ALLURE_REPORT_DIR));
+            logger.info("To view the full interactive report, run: mvn allure:serve");
         } catch (Exception e) {
             logger.error("Failed to generate Allure report: {}", e.getMessage());
             logger.debug("Exception details: ", e);
@@ -0,0 +1,263 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Allure Report Builder
+ * Builds the run summary and a single-page HTML report from an allure-results folder
+ * in process, without the Allure CLI.
+ *
+ * Result files are read one at a time from a directory stream. A manifest next to the
+ * report remembers the size, modification time and extracted fields of every result
+ * file, so a rebuild only parses files that are new or changed; if nothing changed
+ * the existing report is kept. Retried scenarios (same historyId) count once, with
+ * their latest result.
+ *
+ * Output: summary.json (statistic and timing, same shape as the Allure summary widget),
+ * index.html and manifest.json in the report folder. For the full interactive report,
+ * the results folder still works with mvn allure:serve.
+ */
+public class AllureReportBuilder {
+    private static final Logger logger = LogManager.getLogger(AllureReportBuilder.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESULT_SUFFIX = "-result.json";
+    private static final String MANIFEST = "manifest.json";
+    private static final String[] STATUSES = {"passed", "failed", "broken", "skipped", "unknown"};
+
+    private AllureReportBuilder() {
+        // Private constructor
+    }
+
+    /**
+     * Build (or refresh) the report
+     * @param resultsDir allure-results folder
+     * @param reportDir report output folder
+     * @return aggregated summary
+     */
+    public static Summary build(Path resultsDir, Path reportDir) throws IOException {
+        long start = System.nanoTime();
+        Map<String, ObjectNode> previous = readManifest(reportDir.resolve(MANIFEST));
+        Map<String, ObjectNode> current = new TreeMap<>();
+        int parsed = 0;
+
+        if (Files.isDirectory(resultsDir)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(resultsDir, "*" + RESULT_SUFFIX)) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    ObjectNode entry = previous.get(name);
+                    if (entry == null || entry.path("size").asLong() != attributes.size()
+                            || entry.path("modified").asLong() != attributes.lastModifiedTime().toMillis()) {
+                        entry = extract(file, attributes);
+                        if (entry == null) {
+                            continue;
+                        }
+                        parsed++;
+                    }
+                    current.put(name, entry);
+                }
+            }
+        } else {
+            logger.warn("Allure results folder not found: {}", resultsDir);
+        }
+
+        Summary summary = aggregate(current.values());
+        boolean unchanged = parsed == 0 && current.keySet().equals(previous.keySet())
+                && Files.isRegularFile(reportDir.resolve("index.html"));
+        if (unchanged) {
+            logger.info("📊 Allure report up to date ({} result(s)) at {}", current.size(), reportDir);
+            return summary;
+        }
+
+        Files.createDirectories(reportDir);
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportDir.resolve("summary.json").toFile(), summary.toJson());
+        writeHtml(reportDir.resolve("index.html"), summary);
+        ObjectNode manifest = MAPPER.createObjectNode();
+        current.forEach(manifest::set);
+        MAPPER.writeValue(reportDir.resolve(MANIFEST).toFile(), manifest);
+
+        logger.info("📊 Allure report built at {} - {} result file(s), {} parsed, {} reused, {} ms",
+                reportDir, current.size(), parsed, current.size() - parsed, (System.nanoTime() - start) / 1_000_000);
+        summary.log();
+        return summary;
+    }
+
+    /**
+     * Keep only the fields the report needs from one result file
+     */
+    private static ObjectNode extract(Path file, BasicFileAttributes attributes) {
+        JsonNode result;
+        try {
+            result = MAPPER.readTree(file.toFile());
+        } catch (IOException e) {
+            logger.warn("Skipping unreadable Allure result {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+        ObjectNode entry = MAPPER.createObjectNode();
+        entry.put("size", attributes.size());
+        entry.put("modified", attributes.lastModifiedTime().toMillis());
+        entry.put("name", result.path("name").asText(""));
+        entry.put("historyId", result.path("historyId").asText(result.path("uuid").asText(file.toString())));
+        entry.put("status", result.path("status").asText("unknown"));
+        entry.put("start", result.path("start").asLong(0));
+        entry.put("stop", result.path("stop").asLong(0));
+        entry.put("message", result.path("statusDetails").path("message").asText(""));
+        for (JsonNode label : result.path("labels")) {
+            String labelName = label.path("name").asText();
+            if ("feature".equals(labelName) || "epic".equals(labelName)) {
+                entry.put(labelName, label.path("value").asText());
+            }
+        }
+        return entry;
+    }
+
+    private static Summary aggregate(Iterable<ObjectNode> entries) {
+        // Retries share a historyId; the latest attempt is the result
+        Map<String, ObjectNode> latest = new HashMap<>();
+        for (ObjectNode entry : entries) {
+            latest.merge(entry.path("historyId").asText(), entry,
+                    (a, b) -> b.path("stop").asLong() >= a.path("stop").asLong() ? b : a);
+        }
+        Summary summary = new Summary();
+        for (ObjectNode entry : latest.values()) {
+            summary.add(entry);
+        }
+        summary.results.sort(Comparator.comparing((ObjectNode entry) -> entry.path("feature").asText())
+                .thenComparingLong(entry -> entry.path("start").asLong()));
+        return summary;
+    }
+
+    private static Map<String, ObjectNode> readManifest(Path manifest) {
+        Map<String, ObjectNode> entries = new HashMap<>();
+        if (!Files.isRegularFile(manifest)) {
+            return entries;
+        }
+        try {
+            MAPPER.readTree(manifest.toFile()).fields().forEachRemaining(field -> {
+                if (field.getValue().isObject()) {
+                    entries.put(field.getKey(), (ObjectNode) field.getValue());
+                }
+            });
+        } catch (IOException e) {
+            logger.debug("Ignoring unreadable report manifest {}: {}", manifest, e.getMessage());
+        }
+        return entries;
+    }
+
+    private static void writeHtml(Path target, Summary summary) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            out.write("<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"><title>Test Report</title>\n");
+            out.write("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;width:100%}"
+                    + "td,th{border:1px solid #ddd;padding:4px 8px;text-align:left;vertical-align:top}"
+                    + ".passed{color:#2e7d32}.failed{color:#c62828}.broken{color:#ef6c00}"
+                    + ".skipped,.unknown{color:#757575}</style></head><body>\n");
+            out.write("<h1>Test Report</h1>\n<p>");
+            for (String status : STATUSES) {
+                out.write("<span class=\"" + status + "\">" + status + ": " + summary.getCount(status) + "</span> &nbsp; ");
+            }
+            out.write("total: " + summary.getTotal() + " &nbsp; duration: " + summary.getDurationMillis() / 1000 + " s</p>\n");
+            out.write("<table><tr><th>Feature</th><th>Scenario</th><th>Status</th><th>Duration</th><th>Message</th></tr>\n");
+            for (ObjectNode result : summary.results) {
+                String status = result.path("status").asText();
+                out.write("<tr><td>" + escape(result.path("feature").asText()) + "</td><td>"
+                        + escape(result.path("name").asText()) + "</td><td class=\"" + escape(status) + "\">"
+                        + escape(status) + "</td><td>"
+                        + (result.path("stop").asLong() - result.path("start").asLong()) / 1000.0 + " s</td><td>"
+                        + escape(result.path("message").asText()) + "</td></tr>\n");
+            }
+            out.write("</table>\n</body></html>\n");
+        }
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    /**
+     * Aggregated run statistic
+     */
+    public static class Summary {
+        private final Map<String, Integer> statistic = new LinkedHashMap<>();
+        private final List<ObjectNode> results = new ArrayList<>();
+        private long start = Long.MAX_VALUE;
+        private long stop;
+        private long sumDuration;
+
+        Summary() {
+            for (String status : STATUSES) {
+                statistic.put(status, 0);
+            }
+        }
+
+        void add(ObjectNode result) {
+            String status = result.path("status").asText("unknown");
+            statistic.merge(statistic.containsKey(status) ? status : "unknown", 1, Integer::sum);
+            long resultStart = result.path("start").asLong();
+            long resultStop = result.path("stop").asLong();
+            if (resultStart > 0) {
+                start = Math.min(start, resultStart);
+            }
+            stop = Math.max(stop, resultStop);
+            sumDuration += Math.max(0, resultStop - resultStart);
+            results.add(result);
+        }
+
+        public int getCount(String status) { return statistic.getOrDefault(status, 0); }
+        public int getTotal() { return results.size(); }
+
+        /**
+         * @return wall-clock time from the first result start to the last result stop
+         */
+        public long getDurationMillis() {
+            return start == Long.MAX_VALUE ? 0 : Math.max(0, stop - start);
+        }
+
+        ObjectNode toJson() {
+            ObjectNode json = MAPPER.createObjectNode();
+            json.put("reportName", "Allure Report");
+            ObjectNode stat = json.putObject("statistic");
+            statistic.forEach(stat::put);
+            stat.put("total", results.size());
+            ObjectNode time = json.putObject("time");
+            time.put("start", start == Long.MAX_VALUE ? 0 : start);
+            time.put("stop", stop);
+            time.put("duration", getDurationMillis());
+            time.put("sumDuration", sumDuration);
+            ArrayNode failures = json.putArray("failures");
+            for (ObjectNode result : results) {
+                String status = result.path("status").asText();
+                if ("failed".equals(status) || "broken".equals(status)) {
+                    failures.addObject().put("name", result.path("name").asText()).put("status", status)
+                            .put("message", result.path("message").asText());
+                }
+            }
+            return json;
+        }
+
+        void log() {
+            logger.info("📊 Results - total: {}, passed: {}, failed: {}, broken: {}, skipped: {}",
+                    getTotal(), getCount("passed"), getCount("failed"), getCount("broken"), getCount("skipped"));
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.automation.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Attachment Pipeline
+ * Moves screenshot and attachment handling off the scenario thread. The scenario thread
+ * only grabs the raw capture and registers an Allure attachment entry; a background
+ * executor decodes and (in compressed mode) downscales the capture, hashes it (SHA-256)
+ * and writes it once into the Allure results folder under a content-addressed name.
+ * Identical captures (e.g. the same final page across scenarios) are written once and
+ * referenced by every report entry.
+ *
+ * The Cucumber report gets a text/uri-list reference to the same file instead of a
+ * second embedded copy. Call {@link #flush()} in the last after-hook, before the test
+ * case is written, to wait for this scenario's attachments:
+ * <pre>
+ * AttachmentPipeline.captureScreenshot("Final State");   // returns right after the capture
+ * ...                                                    // other teardown overlaps the encoding
+ * for (AttachmentPipeline.Written w : AttachmentPipeline.flush()) {
+ *     scenario.attach(w.getUri(), "text/uri-list", w.getName());
+ * }
+ * </pre>
+ */
+public class AttachmentPipeline {
+    private static final Logger logger = LogManager.getLogger(AttachmentPipeline.class);
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "attachment-pipeline-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Content hash -> source file already written (or being written) to the results folder
+    private static final Map<String, String> SOURCES_BY_HASH = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<Pending>> PENDING = ThreadLocal.withInitial(ArrayList::new);
+
+    private static final AtomicInteger submitted = new AtomicInteger();
+    private static final AtomicInteger deduplicated = new AtomicInteger();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static final AtomicLong bytesSkipped = new AtomicLong();
+
+    private AttachmentPipeline() {
+        // Private constructor
+    }
+
+    /**
+     * Capture a screenshot of the current thread's browser in the configured pass mode and queue it
+     * @param name attachment name
+     * @return true if a capture was taken
+     */
+    public static boolean captureScreenshot(String name) {
+        return captureScreenshot(name, ScreenshotEncoder.passMode());
+    }
+
+    /**
+     * Capture a screenshot of the current thread's browser and queue it
+     * @param name attachment name
+     * @param mode capture mode; compression happens on the pipeline
+     * @return true if a capture was taken
+     */
+    public static boolean captureScreenshot(String name, ScreenshotEncoder.Mode mode) {
+        WebDriver driver = DriverManager.getExistingDriver();
+        if (mode == ScreenshotEncoder.Mode.NONE || !(driver instanceof TakesScreenshot)) {
+            return false;
+        }
+        if (mode == ScreenshotEncoder.Mode.ELEMENT) {
+            List<WebElement> elements = driver.findElements(By.cssSelector(ConfigReader.getScreenshotElementSelector()));
+            if (!elements.isEmpty() && elements.get(0).isDisplayed()) {
+                String capture = elements.get(0).getScreenshotAs(OutputType.BASE64);
+                submit(name, () -> new Content(decode(capture), "image/png", "png"));
+                return true;
+            }
+            logger.debug("Screenshot element not found, capturing compressed page instead");
+            mode = ScreenshotEncoder.Mode.COMPRESSED;
+        }
+        // BASE64 is what the driver returns; decoding is left to the pipeline
+        String capture = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+        if (mode == ScreenshotEncoder.Mode.COMPRESSED) {
+            submit(name, () -> {
+                byte[] png = decode(capture);
+                byte[] jpeg = ScreenshotEncoder.compress(png);
+                // null when the capture could not be re-encoded; it is then stored as the original PNG
+                return jpeg != null ? new Content(jpeg, "image/jpeg", "jpg") : new Content(png, "image/png", "png");
+            });
+        } else {
+            submit(name, () -> new Content(decode(capture), "image/png", "png"));
+        }
+        return true;
+    }
+
+    /**
+     * Queue content that is already in memory
+     * @param name attachment name
+     * @param mimeType content type, e.g. image/png
+     * @param extension file extension without the dot
+     * @param content attachment bytes
+     */
+    public static void attach(String name, String mimeType, String extension, byte[] content) {
+        submit(name, () -> new Content(content, mimeType, extension));
+    }
+
+    /**
+     * Queue a text attachment
+     */
+    public static void attachText(String name, String content) {
+        submit(name, () -> new Content(content.getBytes(StandardCharsets.UTF_8), "text/plain", "txt"));
+    }
+
+    private static void submit(String name, Supplier<Content> content) {
+        // The Allure entry must be registered on the scenario thread; its type and source are filled
+        // in once the content is encoded and hashed
+        Attachment attachment = new Attachment().setName(name);
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        boolean inTestCase = lifecycle.getCurrentTestCase().isPresent();
+        if (inTestCase) {
+            lifecycle.updateTestCase(result -> result.getAttachments().add(attachment));
+        }
+        submitted.incrementAndGet();
+        Future<Written> future = EXECUTOR.submit(() -> write(lifecycle, attachment, content.get(), inTestCase));
+        PENDING.get().add(new Pending(future, attachment, inTestCase));
+    }
+
+    private static Written write(AllureLifecycle lifecycle, Attachment attachment, Content encoded,
+                                 boolean inTestCase) throws NoSuchAlgorithmException {
+        byte[] content = encoded.bytes;
+        String extension = encoded.extension;
+        String hash = toHex(MessageDigest.getInstance("SHA-256").digest(content));
+        String existing = SOURCES_BY_HASH.putIfAbsent(hash, hash + "-attachment." + extension);
+        String source = existing == null ? hash + "-attachment." + extension : existing;
+        if (existing == null) {
+            try {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(content));
+            } catch (RuntimeException e) {
+                // Later duplicates must not point at a file that was never written
+                SOURCES_BY_HASH.remove(hash, source);
+                throw e;
+            }
+            bytesWritten.addAndGet(content.length);
+        } else {
+            deduplicated.incrementAndGet();
+            bytesSkipped.addAndGet(content.length);
+        }
+        attachment.setType(encoded.mimeType).setSource(source);
+        logger.debug("Attachment {} -> {} ({} bytes{})", attachment.getName(), source, content.length,
+                existing == null ? "" : ", duplicate");
+        return new Written(attachment.getName(), attachment.getType(), resultsFolderName() + "/" + source, inTestCase);
+    }
+
+    /**
+     * Wait for the attachments queued by the current thread
+     * @return written attachments, in submission order
+     */
+    public static List<Written> flush() {
+        List<Pending> pending = PENDING.get();
+        List<Written> written = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(FLUSH_TIMEOUT_SECONDS);
+        boolean interrupted = false;
+        for (Pending item : pending) {
+            if (interrupted) {
+                item.discard();
+                continue;
+            }
+            try {
+                written.add(item.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                item.discard();
+            } catch (Exception e) {
+                item.discard();
+                logger.warn("⚠️ Attachment could not be written: {}", e.getMessage());
+            }
+        }
+        pending.clear();
+        return written;
+    }
+
+    /**
+     * Log pipeline totals
+     */
+    public static void logSummary() {
+        if (submitted.get() == 0) {
+            return;
+        }
+        logger.info("📎 Attachments - queued: {}, duplicates: {}, written: {} KB, not rewritten: {} KB",
+                submitted.get(), deduplicated.get(), bytesWritten.get() / 1024, bytesSkipped.get() / 1024);
+    }
+
+    private static String resultsFolderName() {
+        // Every runner (JUnit 4, -Pparallel, FailedTestRunner, shards, browser matrix) writes its Cucumber
+        // html report next to the results folder, so the link is relative to that folder's parent
+        String resultsDir = System.getProperty("allure.results.directory", "target/allure-results");
+        return Paths.get(resultsDir).getFileName().toString();
+    }
+
+    private static byte[] decode(String base64) {
+        return Base64.getMimeDecoder().decode(base64);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Encoded attachment bytes and the format they are actually in
+     */
+    private static class Content {
+        private final byte[] bytes;
+        private final String mimeType;
+        private final String extension;
+
+        Content(byte[] bytes, String mimeType, String extension) {
+            this.bytes = bytes;
+            this.mimeType = mimeType;
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Queued attachment and the Allure entry registered for it
+     */
+    private static class Pending {
+        private final Future<Written> future;
+        private final Attachment attachment;
+        private final boolean inTestCase;
+
+        Pending(Future<Written> future, Attachment attachment, boolean inTestCase) {
+            this.future = future;
+            this.attachment = attachment;
+            this.inTestCase = inTestCase;
+        }
+
+        /**
+         * Give up on the write and drop its entry, so the test case is not written with an attachment
+         * that has no source (a broken attachment in the report)
+         */
+        void discard() {
+            future.cancel(true);
+            if (inTestCase) {
+                Allure.getLifecycle().updateTestCase(result -> result.getAttachments().remove(attachment));
+            }
+        }
+    }
+
+    /**
+     * Attachment stored in the Allure results folder
+     */
+    public static class Written {
+        private final String name;
+        private final String mimeType;
+        private final String uri;
+        private final boolean inAllure;
+
+        Written(String name, String mimeType, String uri, boolean inAllure) {
+            this.name = name;
+            this.mimeType = mimeType;
+            this.uri = uri;
+            this.inAllure = inAllure;
+        }
+
+        public String getName() { return name; }
+        public String getMimeType() { return mimeType; }
+
+        /**
+         * @return path of the stored file relative to the folder holding the Cucumber html report
+         */
+        public String getUri() { return uri; }
+
+        /**
+         * @return true if the attachment was registered with an Allure test case
+         */
+        public boolean isInAllure() { return inAllure; }
+    }
+}
@@ -0,0 +1,320 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Authenticated State Cache
+ * Logs in through the UI once per user per run, captures cookies and
+ * local/session storage, and injects them into later sessions so
+ * login backgrounds don't repeat the full UI flow.
+ *
+ * Entries are keyed by base URL, email and a hash of the password.
+ * An entry is treated as expired after auth.cache.ttl.minutes, or as soon as an
+ * injected session fails the caller's authenticated check (server-side expiry),
+ * in which case the UI login runs again and the entry is refreshed.
+ *
+ * Sessions opened over an application API can be handed to the browser with injectSession.
+ */
+public class AuthStateCache {
+    private static final Logger logger = LogManager.getLogger(AuthStateCache.class);
+
+    private static final Map<String, AuthState> cache = new ConcurrentHashMap<>();
+    private static final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+
+    private static final List<String> CDP_COOKIE_FIELDS =
+            List.of("name", "value", "domain", "path", "secure", "httpOnly", "sameSite", "expires");
+
+    private AuthStateCache() {
+        // Private constructor
+    }
+
+    /**
+     * Make sure the current session is logged in, reusing a cached state when possible.
+     *
+     * @param baseUrl application base URL the state belongs to
+     * @param email user email
+     * @param password user password
+     * @param landingUrl authenticated page to open after injecting a cached state
+     * @param uiLogin performs the full UI login flow
+     * @param isAuthenticated checks for content only a logged-in user sees; a URL check alone passes
+     *                        before the app redirects a rejected session on the client side
+     * @return true if the session ended up authenticated
+     */
+    public static boolean login(String baseUrl, String email, String password, String landingUrl,
+                                Runnable uiLogin, BooleanSupplier isAuthenticated) {
+        WebDriver driver = DriverManager.getDriver();
+        String key = key(baseUrl, email, password);
+
+        if (ConfigReader.isAuthCacheEnabled() && restoreIfCached(driver, key, baseUrl, landingUrl, isAuthenticated)) {
+            return true;
+        }
+
+        // Only one thread per user performs the UI login; the others reuse its result
+        synchronized (loginLocks.computeIfAbsent(key, k -> new Object())) {
+            if (ConfigReader.isAuthCacheEnabled() && restoreIfCached(driver, key, baseUrl, landingUrl, isAuthenticated)) {
+                return true;
+            }
+
+            long start = System.currentTimeMillis();
+            uiLogin.run();
+            boolean authenticated = isAuthenticated.getAsBoolean();
+            logger.info("🔑 UI login for {} took {} ms (authenticated: {})",
+                    email, System.currentTimeMillis() - start, authenticated);
+
+            if (authenticated && ConfigReader.isAuthCacheEnabled()) {
+                cache.put(key, capture(driver));
+                logger.info("💾 Cached authenticated state for {} @ {}", email, baseUrl);
+            }
+            return authenticated;
+        }
+    }
+
+    /**
+     * Open an authenticated browser session from state obtained outside the browser, e.g. an API login
+     *
+     * @param baseUrl application base URL the cookies belong to
+     * @param cookies cookie name to value, set host-only with path /
+     * @param localStorage entries the application keeps in localStorage after logging in
+     * @param landingUrl authenticated page to open after injecting the state
+     * @param isAuthenticated checks for content only a logged-in user sees; a URL check alone passes
+     *                        before the app redirects a rejected session on the client side
+     * @return true if the session ended up authenticated
+     */
+    public static boolean injectSession(String baseUrl, Map<String, String> cookies, Map<String, Object> localStorage,
+                                        String landingUrl, BooleanSupplier isAuthenticated) {
+        WebDriver driver = DriverManager.getDriver();
+        URI uri = URI.create(baseUrl);
+        List<Map<String, Object>> params = new ArrayList<>();
+        cookies.forEach((name, value) -> {
+            Map<String, Object> param = new HashMap<>();
+            param.put("name", name);
+            param.put("value", value);
+            param.put("domain", uri.getHost());
+            param.put("path", "/");
+            param.put("secure", "https".equalsIgnoreCase(uri.getScheme()));
+            param.put("httpOnly", true);
+            params.add(param);
+        });
+
+        long start = System.currentTimeMillis();
+        try {
+            inject(driver, new AuthState(params, localStorage, null, Instant.MAX), baseUrl);
+            driver.get(landingUrl);
+        } catch (Exception e) {
+            logger.warn("Failed to inject authenticated session: {}", e.getMessage());
+            return false;
+        }
+        boolean authenticated = isAuthenticated.getAsBoolean();
+        logger.info("⚡ Injected authenticated session in {} ms (authenticated: {})",
+                System.currentTimeMillis() - start, authenticated);
+        return authenticated;
+    }
+
+    /**
+     * Drop every cached state
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    private static boolean restoreIfCached(WebDriver driver, String key, String baseUrl, String landingUrl,
+                                           BooleanSupplier isAuthenticated) {
+        AuthState state = cache.get(key);
+        if (state == null) {
+            return false;
+        }
+        if (state.isExpired()) {
+            logger.info("⌛ Cached authenticated state expired, logging in again");
+            cache.remove(key, state);
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            inject(driver, state, baseUrl);
+            driver.get(landingUrl);
+            if (isAuthenticated.getAsBoolean()) {
+                logger.info("⚡ Restored cached authenticated state in {} ms", System.currentTimeMillis() - start);
+                return true;
+            }
+            logger.info("⌛ Cached authenticated state rejected by the server, logging in again");
+        } catch (Exception e) {
+            logger.warn("Failed to restore cached authenticated state: {}", e.getMessage());
+        }
+        cache.remove(key, state);
+        return false;
+    }
+
+    // ==================== Capture ====================
+
+    @SuppressWarnings("unchecked")
+    private static AuthState capture(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        if (driver instanceof HasCdp) {
+            // CDP sees cookies for every domain, including third-party auth providers
+            Map<String, Object> result = ((HasCdp) driver).executeCdpCommand("Network.getAllCookies", new HashMap<>());
+            for (Map<String, Object> cookie : (List<Map<String, Object>>) result.get("cookies")) {
+                Map<String, Object> param = new HashMap<>();
+                for (String field : CDP_COOKIE_FIELDS) {
+                    if (cookie.containsKey(field)) {
+                        param.put(field, cookie.get(field));
+                    }
+                }
+                if (Boolean.TRUE.equals(cookie.get("session"))) {
+                    param.remove("expires");
+                }
+                cookies.add(param);
+            }
+        } else {
+            for (Cookie cookie : driver.manage().getCookies()) {
+                cookies.add(toCookieParam(cookie));
+            }
+        }
+
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(
+                "return { local: Object.assign({}, window.localStorage), " +
+                "session: Object.assign({}, window.sessionStorage) };");
+
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(ConfigReader.getAuthCacheTtlMinutes()));
+        return new AuthState(cookies,
+                (Map<String, Object>) storage.get("local"),
+                (Map<String, Object>) storage.get("session"),
+                expiresAt);
+    }
+
+    // ==================== Inject ====================
+
+    private static void inject(WebDriver driver, AuthState state, String baseUrl) {
+        List<Map<String, Object>> cookies = state.liveCookies();
+
+        if (driver instanceof HasCdp) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("cookies", cookies);
+            ((HasCdp) driver).executeCdpCommand("Network.setCookies", params);
+            driver.get(baseUrl);
+        } else {
+            // Selenium can only set cookies for the domain currently loaded
+            driver.get(baseUrl);
+            for (Map<String, Object> cookie : cookies) {
+                try {
+                    driver.manage().addCookie(toSeleniumCookie(cookie));
+                } catch (Exception e) {
+                    logger.debug("Skipping cookie {} for domain {}: {}",
+                            cookie.get("name"), cookie.get("domain"), e.getMessage());
+                }
+            }
+        }
+
+        if (!state.localStorage.isEmpty() || !state.sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "Object.entries(arguments[0]).forEach(([k, v]) => window.localStorage.setItem(k, v));" +
+                    "Object.entries(arguments[1]).forEach(([k, v]) => window.sessionStorage.setItem(k, v));",
+                    state.localStorage, state.sessionStorage);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static String key(String baseUrl, String email, String password) {
+        return baseUrl + "|" + email + "|" + sha256(password);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Map<String, Object> toCookieParam(Cookie cookie) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("name", cookie.getName());
+        param.put("value", cookie.getValue());
+        param.put("domain", cookie.getDomain());
+        param.put("path", cookie.getPath());
+        param.put("secure", cookie.isSecure());
+        param.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getSameSite() != null) {
+            param.put("sameSite", cookie.getSameSite());
+        }
+        if (cookie.getExpiry() != null) {
+            param.put("expires", cookie.getExpiry().getTime() / 1000.0);
+        }
+        return param;
+    }
+
+    private static Cookie toSeleniumCookie(Map<String, Object> param) {
+        Cookie.Builder builder = new Cookie.Builder((String) param.get("name"), (String) param.get("value"))
+                .domain((String) param.get("domain"))
+                .path((String) param.get("path"))
+                .isSecure(Boolean.TRUE.equals(param.get("secure")))
+                .isHttpOnly(Boolean.TRUE.equals(param.get("httpOnly")));
+        if (param.get("sameSite") != null) {
+            builder.sameSite((String) param.get("sameSite"));
+        }
+        if (param.get("expires") instanceof Number) {
+            builder.expiresOn(new Date((long) (((Number) param.get("expires")).doubleValue() * 1000)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Captured authenticated browser state
+     */
+    private static class AuthState {
+        private final List<Map<String, Object>> cookies;
+        private final Map<String, Object> localStorage;
+        private final Map<String, Object> sessionStorage;
+        private final Instant expiresAt;
+
+        AuthState(List<Map<String, Object>> cookies, Map<String, Object> localStorage,
+                  Map<String, Object> sessionStorage, Instant expiresAt) {
+            this.cookies = Collections.unmodifiableList(cookies);
+            this.localStorage = localStorage != null ? localStorage : Collections.emptyMap();
+            this.sessionStorage = sessionStorage != null ? sessionStorage : Collections.emptyMap();
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+
+        /**
+         * @return cookies that have not passed their own expiry date
+         */
+        List<Map<String, Object>> liveCookies() {
+            double nowSeconds = System.currentTimeMillis() / 1000.0;
+            List<Map<String, Object>> live = new ArrayList<>();
+            for (Map<String, Object> cookie : cookies) {
+                Object expires = cookie.get("expires");
+                if (!(expires instanceof Number) || ((Number) expires).doubleValue() > nowSeconds) {
+                    live.add(cookie);
+                }
+            }
+            return live;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Browser Matrix
+ * Runs the selected scenarios on several browsers at once from a single invocation: one JVM
+ * per browser (browser.matrix), all started together, so cross-browser coverage takes as long
+ * as the slowest browser rather than the sum of all of them.
+ *
+ * Every JVM runs the configured JUnit runner with -Dbrowser=&lt;name&gt;, so it gets its own driver
+ * pool, local stubs and reports under target/matrix/&lt;name&gt; (console output in console.log).
+ * Command-line overrides of config.properties keys and cucumber.* / allure.* properties are
+ * passed on to every browser. When all browsers have finished, their reports are merged into
+ * the regular cucumber.json, rerun.txt and allure-results, tagged by browser
+ * (ShardReportMerger), and the Allure report is generated.
+ *
+ * Usage: BrowserMatrix [chrome,firefox,...]
+ */
+public class BrowserMatrix {
+    private static final Logger logger = LogManager.getLogger(BrowserMatrix.class);
+
+    private static final String MERGED_ALLURE = "target/allure-results";
+
+    // Set per browser JVM, never forwarded from this one
+    private static final Set<String> OWN_KEYS = Set.of("browser", "browser.matrix", "browser.matrix.current",
+            "shard.count", "shard.index", "driver.command.metrics.file", "allure.results.directory");
+
+    private BrowserMatrix() {
+        // Private constructor
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<String> browsers = parseBrowsers(args.length > 0 ? args[0] : ConfigReader.getBrowserMatrix());
+        if (browsers.isEmpty()) {
+            throw new IllegalArgumentException("No browsers to run - set browser.matrix, e.g. -Dbrowser.matrix=chrome,firefox");
+        }
+        List<String> failed = run(browsers);
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("Browser matrix failed on: " + String.join(", ", failed));
+        }
+    }
+
+    /**
+     * Run every browser, merge the reports and generate the Allure report
+     * @param browsers browser names as accepted by browser=
+     * @return browsers whose run failed (failed scenarios or a crashed JVM)
+     */
+    public static List<String> run(List<String> browsers) throws IOException, InterruptedException {
+        Path matrixDir = Paths.get(ConfigReader.getBrowserMatrixOutputDir());
+        String classpath = classpath();
+        List<String> forwarded = forwardedProperties();
+        logger.info("🧭 Browser matrix: {} with runner {}", browsers, ConfigReader.getBrowserMatrixRunner());
+
+        long start = System.currentTimeMillis();
+        Map<String, Process> processes = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Long>> finishedAt = new LinkedHashMap<>();
+        for (String browser : browsers) {
+            Path browserDir = matrixDir.resolve(browser);
+            deleteRecursively(browserDir);
+            Files.createDirectories(browserDir);
+
+            ProcessBuilder builder = new ProcessBuilder(command(browser, browserDir, classpath, forwarded))
+                    .redirectErrorStream(true)
+                    .redirectOutput(browserDir.resolve("console.log").toFile());
+            Process process = builder.start();
+            processes.put(browser, process);
+            finishedAt.put(browser, process.onExit().thenApply(exited -> System.currentTimeMillis()));
+            logger.info("🧭 {} started, output in {}", browser, browserDir.resolve("console.log"));
+        }
+
+        List<String> failed = new ArrayList<>();
+        long slowest = 0;
+        long total = 0;
+        for (Map.Entry<String, Process> entry : processes.entrySet()) {
+            int exitCode = entry.getValue().waitFor();
+            long elapsed = finishedAt.get(entry.getKey()).join() - start;
+            slowest = Math.max(slowest, elapsed);
+            total += elapsed;
+            if (exitCode == 0) {
+                logger.info("✅ {} passed in {} s", entry.getKey(), elapsed / 1000);
+            } else {
+                failed.add(entry.getKey());
+                logger.error("❌ {} failed (exit code {}) in {} s", entry.getKey(), exitCode, elapsed / 1000);
+            }
+        }
+        logger.info("🧭 Browser matrix finished in {} s (slowest browser {} s, browsers one after another ~{} s)",
+                (System.currentTimeMillis() - start) / 1000, slowest / 1000, total / 1000);
+
+        ShardReportMerger.mergeBrowserMatrix(matrixDir, browsers);
+        AllureReport.generate(MERGED_ALLURE);
+        return failed;
+    }
+
+    static List<String> parseBrowsers(String value) {
+        Set<String> browsers = new LinkedHashSet<>();
+        Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty())
+                .map(item -> item.toLowerCase(Locale.ROOT)).forEach(browsers::add);
+        return new ArrayList<>(browsers);
+    }
+
+    private static List<String> command(String browser, Path browserDir, String classpath, List<String> forwarded) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(classpath);
+        command.addAll(forwarded);
+        command.add("-Dbrowser=" + browser);
+        command.add("-Dbrowser.matrix.current=" + browser);
+        command.add("-Ddriver.command.metrics.file=" + browserDir.resolve("command-metrics.json"));
+        command.add("org.junit.runner.JUnitCore");
+        command.add(ConfigReader.getBrowserMatrixRunner());
+        return command;
+    }
+
+    /**
+     * -D options for the system properties that override config.properties, plus cucumber.* and allure.*
+     */
+    private static List<String> forwardedProperties() {
+        Set<String> configKeys = ConfigReader.getConfigKeys();
+        return System.getProperties().stringPropertyNames().stream()
+                .filter(key -> !OWN_KEYS.contains(key))
+                .filter(key -> configKeys.contains(key) || key.startsWith("cucumber.") || key.startsWith("allure."))
+                .sorted()
+                .map(key -> "-D" + key + "=" + System.getProperty(key))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test classpath of this JVM. Under exec:java it is only known to the context class loader,
+     * not java.class.path
+     */
+    private static String classpath() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader instanceof URLClassLoader) {
+            List<String> entries = new ArrayList<>();
+            for (URL url : ((URLClassLoader) loader).getURLs()) {
+                try {
+                    entries.add(Paths.get(url.toURI()).toString());
+                } catch (URISyntaxException | IllegalArgumentException e) {
+                    logger.debug("Skipping classpath entry {}: {}", url, e.getMessage());
+                }
+            }
+            if (!entries.isEmpty()) {
+                return String.join(File.pathSeparator, entries);
+            }
+        }
+        return System.getProperty("java.class.path");
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.automation.utils;
 
-import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -9,10 +8,11 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.io.ByteArrayInputStream;
 import java.time.Duration;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 
 /**
  * Browser Utility Class
@@ -30,7 +30,7 @@ public class BrowserUtils {
      * @return WebDriverWait with configured timeout
      */
     public static WebDriverWait getWait() {
-        return new WebDriverWait(DriverManager.getDriver(), Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        return new WebDriverWait(DriverManager.getDriver(), ConfigReader.getExplicitWaitDuration());
     }
 
     /**
@@ -240,13 +240,230 @@ public class BrowserUtils {
     }
 
     /**
-     * Wait for page to load completely
+     * Wait for page to load completely and arm the network/DOM trackers used by the condition waits
      */
     public static void waitForPageLoad() {
         logger.debug("Waiting for page to load");
-        getWait().until(driver -> 
-            ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete")
-        );
+        WaitMetrics.time("page load", () -> getWait().until(driver ->
+            ((JavascriptExecutor) driver).executeScript(INSTALL_TRACKERS + "return document.readyState").equals("complete")
+        ));
+    }
+
+    // ==================== Condition Waits ====================
+    // These replace fixed sleeps: each returns as soon as its condition holds, records the
+    // time it actually took in WaitMetrics, and returns false (instead of throwing) on timeout.
+
+    /**
+     * Patches fetch/XHR to count in-flight requests and observes DOM mutations.
+     * Idempotent per document; re-armed automatically after a full page load.
+     */
+    private static final String INSTALL_TRACKERS =
+            "if (!window.__automationWait) {" +
+            "  var s = window.__automationWait = { inflight: 0, lastNetwork: Date.now(), lastMutation: Date.now()," +
+            "    resources: performance.getEntriesByType('resource').length };" +
+            "  var done = function() { s.inflight = Math.max(0, s.inflight - 1); s.lastNetwork = Date.now(); };" +
+            "  if (window.fetch) {" +
+            "    var originalFetch = window.fetch;" +
+            "    window.fetch = function() {" +
+            "      s.inflight++; s.lastNetwork = Date.now();" +
+            "      return originalFetch.apply(this, arguments).finally(done);" +
+            "    };" +
+            "  }" +
+            "  var originalSend = XMLHttpRequest.prototype.send;" +
+            "  XMLHttpRequest.prototype.send = function() {" +
+            "    s.inflight++; s.lastNetwork = Date.now();" +
+            "    this.addEventListener('loadend', done);" +
+            "    return originalSend.apply(this, arguments);" +
+            "  };" +
+            "  new MutationObserver(function() { s.lastMutation = Date.now(); })" +
+            "    .observe(document, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "}";
+
+    private static final String NETWORK_IDLE_FOR =
+            INSTALL_TRACKERS +
+            "var s = window.__automationWait;" +
+            "var resources = performance.getEntriesByType('resource').length;" +
+            "if (resources !== s.resources) { s.resources = resources; s.lastNetwork = Date.now(); }" +
+            "return s.inflight > 0 ? 0 : Date.now() - s.lastNetwork;";
+
+    private static final String DOM_QUIET_FOR =
+            INSTALL_TRACKERS +
+            "return Date.now() - window.__automationWait.lastMutation;";
+
+    /**
+     * Arm the network/DOM trackers on the current page before an action whose effects will be awaited
+     */
+    public static void armWaitTrackers() {
+        executeJS(INSTALL_TRACKERS);
+    }
+
+    /**
+     * Wait until no fetch/XHR request is in flight and no new resource has loaded for the quiet period
+     * @return true if the network went idle before the settle timeout
+     */
+    public static boolean waitForNetworkIdle() {
+        return waitForNetworkIdle(getQuietPeriod(), getSettleTimeout());
+    }
+
+    /**
+     * Wait until no fetch/XHR request is in flight and no new resource has loaded for the quiet period
+     * @param quietPeriod how long the network must stay idle
+     * @param timeout maximum time to wait
+     * @return true if the network went idle before the timeout
+     */
+    public static boolean waitForNetworkIdle(Duration quietPeriod, Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
+        return pollUntil("network idle", timeout,
+                () -> ((Number) js.executeScript(NETWORK_IDLE_FOR)).longValue() >= quietPeriod.toMillis());
+    }
+
+    /**
+     * Wait until the DOM has not changed for the quiet period
+     * @return true if the DOM went quiet before the settle timeout
+     */
+    public static boolean waitForDomQuiet() {
+        return waitForDomQuiet(getQuietPeriod(), getSettleTimeout());
+    }
+
+    /**
+     * Wait until the DOM has not changed for the quiet period
+     * @param quietPeriod how long the DOM must stay unchanged
+     * @param timeout maximum time to wait
+     * @return true if the DOM went quiet before the timeout
+     */
+    public static boolean waitForDomQuiet(Duration quietPeriod, Duration timeout) {
+        JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
+        return pollUntil("dom quiet", timeout,
+                () -> ((Number) js.executeScript(DOM_QUIET_FOR)).longValue() >= quietPeriod.toMillis());
+    }
+
+    /**
+     * Wait for the network to go idle and then for the DOM to stop changing
+     * @return true if the page settled before the settle timeout
+     */
+    public static boolean waitForPageToSettle() {
+        boolean networkIdle = waitForNetworkIdle();
+        boolean domQuiet = waitForDomQuiet();
+        return networkIdle && domQuiet;
+    }
+
+    /**
+     * Wait until an element's position and size stay unchanged for the given period
+     * (e.g. after an animation or a layout shift)
+     * @param element WebElement
+     * @param stableFor how long the bounding box must stay unchanged
+     * @return true if the element became stable before the settle timeout
+     */
+    public static boolean waitForElementStable(WebElement element, Duration stableFor) {
+        JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
+        String[] lastRect = {null};
+        long[] stableSince = {0};
+        return pollUntil("element stable", getSettleTimeout(), () -> {
+            String rect = (String) js.executeScript(
+                    "var r = arguments[0].getBoundingClientRect(); return [r.x, r.y, r.width, r.height].join(',');",
+                    element);
+            long now = System.nanoTime();
+            if (!rect.equals(lastRect[0])) {
+                lastRect[0] = rect;
+                stableSince[0] = now;
+                return false;
+            }
+            return now - stableSince[0] >= stableFor.toNanos();
+        });
+    }
+
+    /**
+     * Wait until the URL differs from the given one
+     * @param fromUrl URL before the action
+     * @return true if the URL changed before the settle timeout
+     */
+    public static boolean waitForUrlChange(String fromUrl) {
+        return waitForUrlMatching("url change", url -> !url.equals(fromUrl));
+    }
+
+    /**
+     * Wait until the URL contains the given fragment
+     * @param fragment expected URL fragment
+     * @return true if the URL matched before the settle timeout
+     */
+    public static boolean waitForUrlContains(String fragment) {
+        return waitForUrlMatching("url contains", url -> url.contains(fragment));
+    }
+
+    /**
+     * Wait until the URL satisfies the given condition
+     * @param name wait name used in WaitMetrics
+     * @param condition URL condition
+     * @return true if the URL matched before the settle timeout
+     */
+    public static boolean waitForUrlMatching(String name, Predicate<String> condition) {
+        WebDriver driver = DriverManager.getDriver();
+        return pollUntil(name, getSettleTimeout(), () -> condition.test(driver.getCurrentUrl()));
+    }
+
+    /**
+     * Wait until the text of the last element matching the locator is non-empty and
+     * has stopped growing for the quiet period (e.g. a streamed chat answer)
+     * @param locator element locator
+     * @param quietPeriod how long the text must stay unchanged
+     * @param timeout maximum time to wait
+     * @return the final text, or whatever text was present when the wait timed out
+     */
+    public static String waitForTextToStopGrowing(By locator, Duration quietPeriod, Duration timeout) {
+        WebDriver driver = DriverManager.getDriver();
+        String[] lastText = {""};
+        long[] changedAt = {System.nanoTime()};
+        pollUntil("text stopped growing", timeout, () -> {
+            List<WebElement> elements = driver.findElements(locator);
+            String text = elements.isEmpty() ? "" : elements.get(elements.size() - 1).getText().trim();
+            long now = System.nanoTime();
+            if (!text.equals(lastText[0])) {
+                lastText[0] = text;
+                changedAt[0] = now;
+                return false;
+            }
+            return !text.isEmpty() && now - changedAt[0] >= quietPeriod.toNanos();
+        });
+        return lastText[0];
+    }
+
+    /**
+     * Poll a condition until it holds or the timeout expires, recording the time taken
+     */
+    private static boolean pollUntil(String name, Duration timeout, BooleanSupplier condition) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long pollMillis = ConfigReader.getWaitPollInterval();
+        boolean met = false;
+        while (true) {
+            try {
+                if (condition.getAsBoolean()) {
+                    met = true;
+                    break;
+                }
+            } catch (StaleElementReferenceException | JavascriptException e) {
+                logger.debug("Wait '{}' retrying after: {}", name, e.getMessage());
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        WaitMetrics.record(name, System.nanoTime() - start, met);
+        return met;
+    }
+
+    private static Duration getQuietPeriod() {
+        return ConfigReader.getWaitQuietPeriodDuration();
+    }
+
+    private static Duration getSettleTimeout() {
+        return ConfigReader.getWaitSettleTimeoutDuration();
     }
 
     /**
@@ -325,20 +542,22 @@ public class BrowserUtils {
      * @param name screenshot name
      */
     public static void attachScreenshotToAllure(String name) {
-        byte[] screenshot = takeScreenshot();
-        Allure.addAttachment(name, "image/png", new ByteArrayInputStream(screenshot), "png");
+        AttachmentPipeline.captureScreenshot(name);
     }
 
     /**
      * Wait for specified duration
+     * Prefer one of the condition waits above - a fixed sleep always costs its full duration
      * @param seconds seconds to wait
      */
     public static void sleep(int seconds) {
+        long start = System.nanoTime();
         try {
             Thread.sleep(seconds * 1000L);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        StepClock.addSleep(System.nanoTime() - start);
     }
 
     /**
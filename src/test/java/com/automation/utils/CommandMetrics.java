@@ -0,0 +1,305 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Command Metrics
+ * Count and latency of every WebDriver command (findElement, click, getText,
+ * executeScript, getScreenshotAs ...), recorded by a listener on each pooled driver.
+ *
+ * Latencies are kept in {@link LatencyHistogram}s per command and per calling
+ * page-object/utility method (the innermost BasePage, page or BrowserUtils frame that
+ * issued the command), plus per-scenario totals. At the end of the run everything is
+ * exported as JSON (driver.command.metrics.file); each scenario's breakdown is also
+ * attached to its Allure result.
+ */
+public class CommandMetrics {
+    private static final Logger logger = LogManager.getLogger(CommandMetrics.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Calls answered by the client without a browser round trip
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getCapabilities", "getSessionId", "getWrappedDriver", "getWrappedElement",
+            "toString", "hashCode", "equals");
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final Map<String, LatencyHistogram> byCommand = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> byCaller = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<ObjectNode> scenarios = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<ScenarioStats> currentScenario = new ThreadLocal<>();
+    private static final ThreadLocal<long[]> callStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    private CommandMetrics() {
+        // Private constructor
+    }
+
+    /**
+     * Listener for one driver; every command it sees is counted in the session counter
+     * and, when enabled, timed
+     * @param sessionCounter per-session command counter
+     * @return listener to decorate the driver with
+     */
+    static WebDriverListener listener(AtomicLong sessionCounter) {
+        return new Recorder(sessionCounter, ConfigReader.isDriverCommandMetrics());
+    }
+
+    /**
+     * Start collecting per-scenario totals on the current thread
+     */
+    public static void startScenario(String name) {
+        currentScenario.set(new ScenarioStats(name));
+    }
+
+    /**
+     * Stop collecting for the current thread's scenario
+     * @return the scenario's per-command totals as JSON, or null if no commands were sent
+     */
+    public static String finishScenario() {
+        ScenarioStats stats = currentScenario.get();
+        currentScenario.remove();
+        if (stats == null || stats.commands.isEmpty()) {
+            return null;
+        }
+        ObjectNode json = stats.toJson();
+        scenarios.add(json);
+        try {
+            return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(json);
+        } catch (IOException e) {
+            return json.toString();
+        }
+    }
+
+    /**
+     * Write all histograms and scenario totals
+     * @param target JSON file
+     */
+    public static void export(Path target) {
+        if (byCommand.isEmpty()) {
+            return;
+        }
+        ObjectNode json = MAPPER.createObjectNode();
+        ObjectNode commands = json.putObject("commands");
+        sortedByTotal(byCommand).forEach(entry -> commands.set(entry.getKey(), entry.getValue().toJson()));
+        ObjectNode callers = json.putObject("callers");
+        sortedByTotal(byCaller).forEach(entry -> callers.set(entry.getKey(), entry.getValue().toJson()));
+        ArrayNode scenarioArray = json.putArray("scenarios");
+        scenarios.forEach(scenarioArray::add);
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(target.toFile(), json);
+            logger.info("📡 WebDriver command metrics written to {}", target);
+        } catch (IOException e) {
+            logger.warn("Could not write command metrics to {}: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * Log the commands and calling methods that took the most time
+     */
+    public static void logSummary() {
+        if (byCommand.isEmpty()) {
+            return;
+        }
+        logger.info("📡 Slowest WebDriver commands (total time):");
+        sortedByTotal(byCommand).stream().limit(10).forEach(entry -> logger.info("   {}", describe(entry)));
+        logger.info("📡 Busiest callers (total time):");
+        sortedByTotal(byCaller).stream().limit(10).forEach(entry -> logger.info("   {}", describe(entry)));
+    }
+
+    /**
+     * Clear all recorded metrics
+     */
+    public static void reset() {
+        byCommand.clear();
+        byCaller.clear();
+        scenarios.clear();
+    }
+
+    private static List<Map.Entry<String, LatencyHistogram>> sortedByTotal(Map<String, LatencyHistogram> histograms) {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, LatencyHistogram> e) -> e.getValue().getTotalMicros())
+                .reversed().thenComparing(Map.Entry::getKey));
+        return entries;
+    }
+
+    private static String describe(Map.Entry<String, LatencyHistogram> entry) {
+        LatencyHistogram histogram = entry.getValue();
+        return String.format("%-40s count=%-6d total=%7d ms  p50=%6.1f ms  p99=%7.1f ms  max=%7.1f ms",
+                entry.getKey(), histogram.getCount(), histogram.getTotalMicros() / 1_000,
+                histogram.getValueAtPercentile(50) / 1_000.0, histogram.getValueAtPercentile(99) / 1_000.0,
+                histogram.getMaxMicros() / 1_000.0);
+    }
+
+    private static void record(String command, long nanos) {
+        byCommand.computeIfAbsent(command, k -> new LatencyHistogram()).recordNanos(nanos);
+        byCaller.computeIfAbsent(findCaller(), k -> new LatencyHistogram()).recordNanos(nanos);
+        ScenarioStats scenario = currentScenario.get();
+        if (scenario != null) {
+            scenario.add(command, nanos);
+        }
+    }
+
+    /**
+     * Innermost project frame below the Selenium proxy, e.g. "BasePage.click"
+     */
+    private static String findCaller() {
+        Optional<StackWalker.StackFrame> frame = WALKER.walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith("com.automation.")
+                        && !f.getClassName().startsWith(CommandMetrics.class.getName()))
+                .findFirst());
+        if (frame.isEmpty()) {
+            return "(other)";
+        }
+        String className = frame.get().getClassName();
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        int nested = simpleName.indexOf('$');
+        if (nested > 0) {
+            simpleName = simpleName.substring(0, nested);
+        }
+        return simpleName + "." + methodName(frame.get().getMethodName());
+    }
+
+    private static String methodName(String method) {
+        // lambda$waitForNetworkIdle$3 -> waitForNetworkIdle
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            return method.substring("lambda$".length(), end > 0 ? end : method.length());
+        }
+        return method;
+    }
+
+    private static String commandName(Object target, Method method) {
+        String name = method.getName();
+        if (target instanceof WebElement) {
+            return "element." + name;
+        }
+        if (target instanceof WebDriver) {
+            return name;
+        }
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate." + name;
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return "switchTo." + name;
+        }
+        if (target instanceof WebDriver.Timeouts) {
+            return "timeouts." + name;
+        }
+        if (target instanceof WebDriver.Window) {
+            return "window." + name;
+        }
+        if (target instanceof Alert) {
+            return "alert." + name;
+        }
+        return "options." + name;
+    }
+
+    /**
+     * Per-scenario command totals (count and time, no histograms)
+     */
+    private static class ScenarioStats {
+        private final String name;
+        private final Map<String, long[]> commands = new TreeMap<>();
+
+        ScenarioStats(String name) {
+            this.name = name;
+        }
+
+        void add(String command, long nanos) {
+            long[] totals = commands.computeIfAbsent(command, k -> new long[2]);
+            totals[0]++;
+            totals[1] += nanos;
+        }
+
+        ObjectNode toJson() {
+            ObjectNode json = MAPPER.createObjectNode();
+            json.put("scenario", name);
+            long count = 0;
+            long nanos = 0;
+            ObjectNode byName = json.putObject("commands");
+            for (Map.Entry<String, long[]> entry : commands.entrySet()) {
+                byName.putObject(entry.getKey())
+                        .put("count", entry.getValue()[0])
+                        .put("totalMillis", entry.getValue()[1] / 1_000_000);
+                count += entry.getValue()[0];
+                nanos += entry.getValue()[1];
+            }
+            json.put("totalCommands", count);
+            json.put("totalMillis", nanos / 1_000_000);
+            return json;
+        }
+    }
+
+    /**
+     * Driver listener: counts every browser command and times it when metrics are enabled.
+     * A decorated driver is used by one thread at a time and calls do not nest, so a single
+     * start timestamp per thread is enough.
+     */
+    private static class Recorder implements WebDriverListener {
+        private final AtomicLong sessionCounter;
+        private final boolean timed;
+
+        Recorder(AtomicLong sessionCounter, boolean timed) {
+            this.sessionCounter = sessionCounter;
+            this.timed = timed;
+        }
+
+        @Override
+        public void beforeAnyCall(Object target, Method method, Object[] args) {
+            if (LOCAL_CALLS.contains(method.getName())) {
+                return;
+            }
+            sessionCounter.incrementAndGet();
+            if (timed) {
+                callStart.get()[0] = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+            finish(target, method);
+        }
+
+        @Override
+        public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+            // Failed lookups still cost their implicit wait
+            finish(target, method);
+        }
+
+        private void finish(Object target, Method method) {
+            if (!timed || LOCAL_CALLS.contains(method.getName())) {
+                return;
+            }
+            long elapsed = System.nanoTime() - callStart.get()[0];
+            StepClock.addDriver(elapsed);
+            record(commandName(target, method), elapsed);
+        }
+    }
+}
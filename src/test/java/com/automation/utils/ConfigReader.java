@@ -7,26 +7,31 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Properties;
+import java.util.Set;
 
 /**
  * Configuration Reader Utility for Nomad TMS
+ * Values come from an immutable {@link ConfigSnapshot} (config file plus system properties,
+ * resolved once). Reads never lock; {@link #reload()} swaps in a fresh snapshot atomically,
+ * so system properties set after startup take effect on the next reload.
  */
 public class ConfigReader {
     private static final Logger logger = LogManager.getLogger(ConfigReader.class);
-    private static Properties properties;
     private static final String CONFIG_FILE_NAME = "config.properties";
+    private static volatile ConfigSnapshot snapshot;
 
     static {
-        loadProperties();
+        snapshot = new ConfigSnapshot(loadProperties(), System.getProperties());
     }
 
     private ConfigReader() {
         // Private constructor to prevent instantiation
     }
 
-    private static void loadProperties() {
-        properties = new Properties();
+    private static Properties loadProperties() {
+        Properties properties = new Properties();
         
         // Try project root first
         String projectRoot = System.getProperty("user.dir");
@@ -36,7 +41,7 @@ public class ConfigReader {
             try (FileInputStream fis = new FileInputStream(configFile)) {
                 properties.load(fis);
                 logger.info("Configuration loaded from: {}", configFile.getAbsolutePath());
-                return;
+                return properties;
             } catch (IOException e) {
                 logger.warn("Failed to load config from project root: {}", e.getMessage());
             }
@@ -47,7 +52,7 @@ public class ConfigReader {
             if (is != null) {
                 properties.load(is);
                 logger.info("Configuration loaded from classpath: {}", CONFIG_FILE_NAME);
-                return;
+                return properties;
             }
         } catch (IOException e) {
             logger.warn("Could not load from classpath: {}", e.getMessage());
@@ -56,39 +61,39 @@ public class ConfigReader {
         throw new RuntimeException("Config file not found: " + CONFIG_FILE_NAME);
     }
 
+    /**
+     * @return the current configuration snapshot
+     */
+    public static ConfigSnapshot snapshot() {
+        return snapshot;
+    }
+
     /**
      * Get property value by key
      */
     public static String getProperty(String key) {
-        String value = System.getProperty(key);
-        if (value == null) {
-            value = properties.getProperty(key);
-        }
-        return value;
+        return snapshot.get(key);
     }
 
     /**
      * Get property value with default fallback
      */
     public static String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
-        return value != null ? value : defaultValue;
+        return snapshot.get(key, defaultValue);
     }
 
     /**
      * Get integer property
      */
     public static int getIntProperty(String key, int defaultValue) {
-        String value = getProperty(key);
-        return value != null ? Integer.parseInt(value) : defaultValue;
+        return snapshot.getInt(key, defaultValue);
     }
 
     /**
      * Get boolean property
      */
     public static boolean getBooleanProperty(String key, boolean defaultValue) {
-        String value = getProperty(key);
-        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+        return snapshot.getBoolean(key, defaultValue);
     }
 
     // ==================== Nomad TMS Configuration ====================
@@ -129,26 +134,185 @@ public class ConfigReader {
         return getProperty("nomadtms.test.user.organization");
     }
 
+    // ==================== Jasalma Configuration ====================
+
+    public static String getJasalmaBaseUrl() {
+        return getProperty("jasalma.base.url", "https://www.jasalma.ai");
+    }
+
     // ==================== Browser Configuration ====================
 
     public static String getBrowser() {
-        return getProperty("browser", "chrome");
+        return snapshot.getBrowser();
     }
 
     public static boolean isHeadless() {
-        return getBooleanProperty("headless", false);
+        return snapshot.isHeadless();
     }
 
     public static int getImplicitWait() {
-        return getIntProperty("implicit.wait", 10);
+        return (int) snapshot.getImplicitWait().getSeconds();
     }
 
     public static int getExplicitWait() {
-        return getIntProperty("explicit.wait", 15);
+        return (int) snapshot.getExplicitWait().getSeconds();
     }
 
     public static int getPageLoadTimeout() {
-        return getIntProperty("page.load.timeout", 30);
+        return (int) snapshot.getPageLoadTimeout().getSeconds();
+    }
+
+    public static Duration getImplicitWaitDuration() {
+        return snapshot.getImplicitWait();
+    }
+
+    public static Duration getExplicitWaitDuration() {
+        return snapshot.getExplicitWait();
+    }
+
+    public static Duration getPageLoadTimeoutDuration() {
+        return snapshot.getPageLoadTimeout();
+    }
+
+    // ==================== Wait Engine ====================
+
+    public static int getWaitQuietPeriod() {
+        return (int) snapshot.getWaitQuietPeriod().toMillis();
+    }
+
+    public static int getWaitSettleTimeout() {
+        return (int) snapshot.getWaitSettleTimeout().getSeconds();
+    }
+
+    public static int getWaitPollInterval() {
+        return (int) snapshot.getWaitPollInterval().toMillis();
+    }
+
+    public static Duration getWaitQuietPeriodDuration() {
+        return snapshot.getWaitQuietPeriod();
+    }
+
+    public static Duration getWaitSettleTimeoutDuration() {
+        return snapshot.getWaitSettleTimeout();
+    }
+
+    public static Duration getWaitPollIntervalDuration() {
+        return snapshot.getWaitPollInterval();
+    }
+
+    // ==================== LLM Response Detection ====================
+
+    public static int getLlmResponseQuietPeriod() {
+        return (int) snapshot.getLlmResponseQuietPeriod().toMillis();
+    }
+
+    public static int getLlmResponseTimeout() {
+        return (int) snapshot.getLlmResponseTimeout().getSeconds();
+    }
+
+    public static Duration getLlmResponseQuietPeriodDuration() {
+        return snapshot.getLlmResponseQuietPeriod();
+    }
+
+    public static Duration getLlmResponseTimeoutDuration() {
+        return snapshot.getLlmResponseTimeout();
+    }
+
+    // ==================== Sharding ====================
+
+    public static int getShardCount() {
+        return getIntProperty("shard.count", 1);
+    }
+
+    public static int getShardIndex() {
+        return getIntProperty("shard.index", 1);
+    }
+
+    public static String getShardDurationsFile() {
+        return getProperty("shard.durations.file", "target/cucumber-reports/cucumber.json");
+    }
+
+    public static String getShardOutputDir() {
+        return getProperty("shard.output.dir", "target/shards");
+    }
+
+    // ==================== Browser Matrix ====================
+
+    /**
+     * @return browsers a matrix run covers, comma separated
+     */
+    public static String getBrowserMatrix() {
+        return getProperty("browser.matrix", "chrome,firefox,edge");
+    }
+
+    public static String getBrowserMatrixOutputDir() {
+        return getProperty("browser.matrix.output.dir", "target/matrix");
+    }
+
+    public static String getBrowserMatrixRunner() {
+        return getProperty("browser.matrix.runner", "com.automation.runners.CukesRunner");
+    }
+
+    /**
+     * @return browser of this JVM when it was started by BrowserMatrix, empty otherwise
+     */
+    public static String getMatrixBrowser() {
+        return getProperty("browser.matrix.current", "");
+    }
+
+    public static boolean isBrowserMatrixRun() {
+        return !getMatrixBrowser().isEmpty();
+    }
+
+    /**
+     * @return keys defined in config.properties, i.e. the settings that can be overridden with -D
+     */
+    public static Set<String> getConfigKeys() {
+        return loadProperties().stringPropertyNames();
+    }
+
+    // ==================== Driver Pool Configuration ====================
+
+    public static int getDriverPoolSize() {
+        return getIntProperty("driver.pool.size", 4);
+    }
+
+    public static int getDriverPoolAcquireTimeout() {
+        return getIntProperty("driver.pool.acquire.timeout", 120);
+    }
+
+    public static int getDriverPoolLeakTimeout() {
+        return getIntProperty("driver.pool.leak.timeout", 600);
+    }
+
+    public static int getDriverPoolPrewarm() {
+        return getIntProperty("driver.pool.prewarm", 0);
+    }
+
+    public static boolean isDriverSessionReuse() {
+        return getBooleanProperty("driver.session.reuse", true);
+    }
+
+    public static int getDriverSessionMaxScenarios() {
+        return getIntProperty("driver.session.max.scenarios", 20);
+    }
+
+    public static boolean isDriverCommandMetrics() {
+        return getBooleanProperty("driver.command.metrics", true);
+    }
+
+    public static String getDriverCommandMetricsFile() {
+        return getProperty("driver.command.metrics.file", "target/command-metrics.json");
+    }
+
+    // ==================== Authenticated State Cache ====================
+
+    public static boolean isAuthCacheEnabled() {
+        return getBooleanProperty("auth.cache.enabled", true);
+    }
+
+    public static int getAuthCacheTtlMinutes() {
+        return getIntProperty("auth.cache.ttl.minutes", 30);
     }
 
     // ==================== API Configuration ====================
@@ -157,10 +321,98 @@ public class ConfigReader {
         return getIntProperty("api.timeout", 30000);
     }
 
+    /**
+     * @return true to log the Nomad TMS test user in over the API and inject the session into the browser
+     */
+    public static boolean isNomadTmsApiLoginEnabled() {
+        return getBooleanProperty("nomadtms.api.login", false);
+    }
+
     public static String getEnvironment() {
         return getProperty("environment", "qa");
     }
 
+    /**
+     * @return true when the applications are served by the in-process stubs (environment=local)
+     */
+    public static boolean isLocalEnvironment() {
+        return "local".equalsIgnoreCase(getEnvironment());
+    }
+
+    // ==================== Local Stubs ====================
+
+    public static int getStubNomadTmsPort() {
+        return getIntProperty("stub.nomadtms.port", 0);
+    }
+
+    public static int getStubStreamTokenDelayMs() {
+        return getIntProperty("stub.stream.token.delay.ms", 40);
+    }
+
+    public static int getStubJasalmaPort() {
+        return getIntProperty("stub.jasalma.port", 0);
+    }
+
+    /**
+     * @return script the stubbed AI Study agent answers with: safe (refuses injections) or vulnerable (complies)
+     */
+    public static String getStubJasalmaAgentMode() {
+        return getProperty("stub.jasalma.agent.mode", "safe");
+    }
+
+    public static int getStubJasalmaSessionStartMs() {
+        return getIntProperty("stub.jasalma.session.start.ms", 300);
+    }
+
+    public static String getStubJasalmaUserEmail() {
+        return getProperty("stub.jasalma.user.email", "pro@gmail.com");
+    }
+
+    public static String getStubJasalmaUserPassword() {
+        return getProperty("stub.jasalma.user.password", "Prodbek2025!");
+    }
+
+    // ==================== Network Blocking ====================
+
+    /**
+     * @return off, headless (block only in headless browsers) or always
+     */
+    public static String getNetworkBlockMode() {
+        return getProperty("network.block.mode", "headless");
+    }
+
+    public static String getNetworkBlockTypes() {
+        return getProperty("network.block.types", "image,font,media");
+    }
+
+    public static String getNetworkBlockDomains() {
+        return getProperty("network.block.domains", "");
+    }
+
+    public static String getNetworkBlockPatterns() {
+        return getProperty("network.block.patterns", "");
+    }
+
+    // ==================== Agent Cassettes ====================
+
+    /**
+     * @return off, record (capture agent traffic per scenario) or replay (answer it from the cassette)
+     */
+    public static String getCassetteMode() {
+        return getProperty("cassette.mode", "off");
+    }
+
+    public static String getCassetteDir() {
+        return getProperty("cassette.dir", "src/test/resources/cassettes");
+    }
+
+    /**
+     * @return regex (find) for request URLs that are recorded/replayed; other requests go to the network
+     */
+    public static String getCassetteUrlPattern() {
+        return getProperty("cassette.url.pattern", "/api/(agent|ai-chat)/");
+    }
+
     // ==================== Screenshot & Reporting ====================
 
     public static String getScreenshotPath() {
@@ -171,14 +423,41 @@ public class ConfigReader {
         return getBooleanProperty("screenshot.on.failure", true);
     }
 
+    public static String getScreenshotPassMode() {
+        return getProperty("screenshot.pass.mode", "compressed");
+    }
+
+    public static String getScreenshotFailureMode() {
+        return getProperty("screenshot.failure.mode", "full");
+    }
+
+    public static int getScreenshotMaxWidth() {
+        return getIntProperty("screenshot.max.width", 960);
+    }
+
+    public static float getScreenshotJpegQuality() {
+        try {
+            return Float.parseFloat(getProperty("screenshot.jpeg.quality", "0.6"));
+        } catch (NumberFormatException e) {
+            return 0.6f;
+        }
+    }
+
+    public static String getScreenshotElementSelector() {
+        return getProperty("screenshot.element.selector", "main");
+    }
+
     public static int getRetryCount() {
         return getIntProperty("retry.count", 2);
     }
 
     /**
      * Reload properties
+     * Builds a new snapshot from the config file and current system properties and swaps it in;
+     * readers see either the old or the new snapshot, never a mix
      */
     public static void reload() {
-        loadProperties();
+        snapshot = new ConfigSnapshot(loadProperties(), System.getProperties());
+        logger.info("Configuration reloaded ({} keys)", snapshot.size());
     }
 }
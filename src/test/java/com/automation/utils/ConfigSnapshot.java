@@ -0,0 +1,113 @@
+package com.automation.utils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Configuration Snapshot
+ * Immutable view of the configuration at one point in time: the config file with system
+ * properties applied on top, resolved once. The settings read on every element interaction
+ * and driver access are parsed up front into typed fields; any other int or boolean is
+ * parsed on first use and memoized.
+ *
+ * Instances are safe to share between threads without locking. ConfigReader swaps in a
+ * new snapshot on reload instead of changing this one.
+ */
+public final class ConfigSnapshot {
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> ints = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> booleans = new ConcurrentHashMap<>();
+
+    private final String browser;
+    private final boolean headless;
+    private final Duration implicitWait;
+    private final Duration explicitWait;
+    private final Duration pageLoadTimeout;
+    private final Duration waitQuietPeriod;
+    private final Duration waitSettleTimeout;
+    private final Duration waitPollInterval;
+    private final Duration llmResponseQuietPeriod;
+    private final Duration llmResponseTimeout;
+
+    /**
+     * Resolve a snapshot
+     * @param fileProperties properties loaded from config.properties
+     * @param systemProperties system properties; these override the file
+     */
+    ConfigSnapshot(Properties fileProperties, Properties systemProperties) {
+        Map<String, String> merged = new HashMap<>();
+        for (String key : fileProperties.stringPropertyNames()) {
+            merged.put(key, fileProperties.getProperty(key));
+        }
+        for (String key : systemProperties.stringPropertyNames()) {
+            merged.put(key, systemProperties.getProperty(key));
+        }
+        this.values = Collections.unmodifiableMap(merged);
+
+        this.browser = get("browser", "chrome");
+        this.headless = getBoolean("headless", false);
+        this.implicitWait = Duration.ofSeconds(getInt("implicit.wait", 10));
+        this.explicitWait = Duration.ofSeconds(getInt("explicit.wait", 15));
+        this.pageLoadTimeout = Duration.ofSeconds(getInt("page.load.timeout", 30));
+        this.waitQuietPeriod = Duration.ofMillis(getInt("wait.quiet.period.ms", 500));
+        this.waitSettleTimeout = Duration.ofSeconds(getInt("wait.settle.timeout", 10));
+        this.waitPollInterval = Duration.ofMillis(getInt("wait.poll.interval.ms", 100));
+        this.llmResponseQuietPeriod = Duration.ofMillis(getInt("llm.response.quiet.ms", 1500));
+        this.llmResponseTimeout = Duration.ofSeconds(getInt("llm.response.timeout", 30));
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    public String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Integer value = ints.get(key);
+        if (value != null) {
+            return value;
+        }
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        return ints.computeIfAbsent(key, k -> Integer.parseInt(raw.trim()));
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = booleans.get(key);
+        if (value != null) {
+            return value;
+        }
+        String raw = values.get(key);
+        if (raw == null) {
+            return defaultValue;
+        }
+        return booleans.computeIfAbsent(key, k -> Boolean.parseBoolean(raw.trim()));
+    }
+
+    public String getBrowser() { return browser; }
+    public boolean isHeadless() { return headless; }
+    public Duration getImplicitWait() { return implicitWait; }
+    public Duration getExplicitWait() { return explicitWait; }
+    public Duration getPageLoadTimeout() { return pageLoadTimeout; }
+    public Duration getWaitQuietPeriod() { return waitQuietPeriod; }
+    public Duration getWaitSettleTimeout() { return waitSettleTimeout; }
+    public Duration getWaitPollInterval() { return waitPollInterval; }
+    public Duration getLlmResponseQuietPeriod() { return llmResponseQuietPeriod; }
+    public Duration getLlmResponseTimeout() { return llmResponseTimeout; }
+
+    /**
+     * @return number of resolved keys
+     */
+    public int size() {
+        return values.size();
+    }
+}
@@ -3,8 +3,10 @@ package com.automation.utils;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
@@ -14,62 +16,270 @@ import org.openqa.selenium.safari.SafariDriver;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * WebDriver Manager Utility
- * Manages WebDriver instance for test execution
+ * Manages thread-confined WebDriver sessions for test execution.
+ * Each thread checks a session out of a shared {@link DriverPool} and
+ * returns it when the scenario finishes, so scenarios can run in parallel.
  */
 public class DriverManager {
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
-    
-    private static WebDriver driver;
+
+    private static final ThreadLocal<DriverSession> currentSession = new ThreadLocal<>();
+    private static final Set<String> resolvedBinaries = ConcurrentHashMap.newKeySet();
+    private static volatile DriverPool pool;
+
+    // WebDriver commands per scenario (checkout to release)
+    private static final AtomicLong scenarioCount = new AtomicLong();
+    private static final AtomicLong scenarioCommands = new AtomicLong();
+    private static final AtomicLong maxScenarioCommands = new AtomicLong();
 
     private DriverManager() {
         // Private constructor to prevent instantiation
     }
 
     /**
-     * Get WebDriver instance - creates new one if doesn't exist
+     * Get WebDriver instance for the current thread - checks one out of the pool if needed
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
-            String browserType = ConfigReader.getBrowser().toLowerCase();
-            boolean isHeadless = ConfigReader.isHeadless();
-
-            System.out.println("🔧 Browser Configuration:");
-            System.out.println("   Browser: " + browserType);
-            System.out.println("   Headless: " + isHeadless);
-
-            switch (browserType) {
-                case "chrome":
-                    driver = createChromeDriver(isHeadless);
-                    break;
-                case "firefox":
-                    driver = createFirefoxDriver(isHeadless);
-                    break;
-                case "edge":
-                    driver = createEdgeDriver(isHeadless);
-                    break;
-                case "safari":
-                    driver = createSafariDriver();
-                    break;
-                default:
-                    logger.warn("Unknown browser '{}', defaulting to Chrome", browserType);
-                    driver = createChromeDriver(isHeadless);
+        DriverSession session = currentSession.get();
+        if (session == null) {
+            session = checkoutSession();
+        }
+        return session.getDriver();
+    }
+
+    /**
+     * Check out a driver session for the current thread
+     * @return WebDriver owned by the current thread until {@link #releaseDriver(boolean)}
+     */
+    public static WebDriver checkoutDriver() {
+        return getDriver();
+    }
+
+    /**
+     * Return the current thread's session to the pool.
+     * With driver.session.reuse enabled the session is reset and kept alive; it is
+     * recycled instead after a failure, after driver.session.max.scenarios uses,
+     * or when the reset itself fails. If returning it throws, the session is quit.
+     * @param discard true to quit the browser instead of returning it for reuse
+     */
+    public static void releaseDriver(boolean discard) {
+        DriverSession session = currentSession.get();
+        if (session == null) {
+            return;
+        }
+        currentSession.remove();
+
+        String recycleReason = null;
+        try {
+            recordScenarioCommands(session);
+            if (discard) {
+                recycleReason = "scenario failed";
+            } else if (!ConfigReader.isDriverSessionReuse()) {
+                recycleReason = "session reuse disabled";
+            } else if (session.getUseCount() >= ConfigReader.getDriverSessionMaxScenarios()) {
+                recycleReason = "reached " + session.getUseCount() + " scenarios";
+            } else if (!resetForReuse(session.getDriver())) {
+                recycleReason = "state reset failed";
             }
+            getPool().checkin(session, recycleReason != null);
+        } catch (RuntimeException e) {
+            // The thread no longer holds the session; quit it here rather than leak it and its permit
+            // until the leak sweeper notices
+            getPool().checkin(session, true);
+            throw e;
+        }
+
+        if (recycleReason == null) {
+            logger.info("♻️ Driver session #{} reset and returned to pool", session.getId());
+        } else {
+            logger.info("🔒 Driver session #{} recycled ({})", session.getId(), recycleReason);
+        }
+    }
+
+    /**
+     * Start launching browsers in the background before the first scenario needs one.
+     * The number of warm sessions comes from driver.pool.prewarm (0 disables pre-warming).
+     */
+    public static void warmUp() {
+        int prewarm = ConfigReader.getDriverPoolPrewarm();
+        if (prewarm > 0) {
+            getPool().prewarm(prewarm);
+        }
+    }
+
+    /**
+     * Get pool hit/miss and checkout latency statistics
+     * @return pool statistics, or null if no pool was created
+     */
+    public static DriverPool.Stats getPoolStats() {
+        DriverPool current = pool;
+        return current != null ? current.getStats() : null;
+    }
 
-            logger.info("WebDriver initialized successfully");
+    /**
+     * Log WebDriver command totals for the scenarios finished so far
+     */
+    public static void logCommandSummary() {
+        long scenarios = scenarioCount.get();
+        if (scenarios == 0) {
+            return;
         }
+        logger.info("📊 WebDriver commands - scenarios: {}, total: {}, average per scenario: {}, max: {}",
+                scenarios, scenarioCommands.get(), scenarioCommands.get() / scenarios, maxScenarioCommands.get());
+    }
 
-        // Configure timeouts
-        configureTimeouts();
+    private static void recordScenarioCommands(DriverSession session) {
+        long commands = session.getCommandsSinceCheckout();
+        scenarioCount.incrementAndGet();
+        scenarioCommands.addAndGet(commands);
+        maxScenarioCommands.accumulateAndGet(commands, Math::max);
+        logger.info("📡 Driver session #{} sent {} WebDriver command(s) this scenario", session.getId(), commands);
+    }
+
+    /**
+     * Requests the current session's browser blocked since the last call (see {@link ResourceBlocker})
+     * @return blocked requests of this scenario, or null if the session blocks nothing
+     */
+    public static ResourceBlocker.Stats drainBlockedResources() {
+        DriverSession session = currentSession.get();
+        if (session == null || session.getResourceBlocker() == null) {
+            return null;
+        }
+        return session.getResourceBlocker().drain();
+    }
 
+    /**
+     * Quit every pooled session - call once at the end of the run
+     */
+    public static synchronized void shutdownPool() {
+        releaseDriver(true);
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private static DriverSession checkoutSession() {
+        DriverSession session = getPool().checkout();
+        currentSession.set(session);
+        configureTimeouts(session);
+        return session;
+    }
+
+    private static DriverPool getPool() {
+        DriverPool current = pool;
+        if (current == null) {
+            synchronized (DriverManager.class) {
+                current = pool;
+                if (current == null) {
+                    current = new DriverPool(
+                            ConfigReader.getDriverPoolSize(),
+                            DriverManager::createDriver,
+                            Duration.ofSeconds(ConfigReader.getDriverPoolAcquireTimeout()),
+                            Duration.ofSeconds(ConfigReader.getDriverPoolLeakTimeout()));
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static WebDriver createDriver() {
+        String browserType = ConfigReader.getBrowser().toLowerCase();
+        boolean isHeadless = ConfigReader.isHeadless();
+
+        System.out.println("🔧 Browser Configuration:");
+        System.out.println("   Browser: " + browserType);
+        System.out.println("   Headless: " + isHeadless);
+
+        WebDriver driver;
+        switch (browserType) {
+            case "chrome":
+                driver = createChromeDriver(isHeadless);
+                break;
+            case "firefox":
+                driver = createFirefoxDriver(isHeadless);
+                break;
+            case "edge":
+                driver = createEdgeDriver(isHeadless);
+                break;
+            case "safari":
+                driver = createSafariDriver();
+                break;
+            default:
+                logger.warn("Unknown browser '{}', defaulting to Chrome", browserType);
+                driver = createChromeDriver(isHeadless);
+        }
+
+        logger.info("WebDriver initialized successfully");
         return driver;
     }
 
+    /**
+     * Clear browser state so the next scenario starts logged out on a blank page:
+     * closes extra windows, clears local/session storage and cookies, then loads about:blank
+     * @return true if the session is healthy and can be reused
+     */
+    private static boolean resetForReuse(WebDriver driver) {
+        try {
+            closeExtraWindows(driver);
+
+            // Storage is per origin, so clear it while still on the scenario's last page
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+
+            if (driver instanceof HasCdp) {
+                // Clears cookies for every domain, not just the current one
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", new HashMap<>());
+            } else {
+                driver.manage().deleteAllCookies();
+            }
+
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Driver session could not be reset, discarding: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.size() <= 1) {
+            return;
+        }
+        String mainHandle = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(mainHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(mainHandle);
+    }
+
+    /**
+     * Resolve a driver binary once per run instead of on every browser launch
+     */
+    private static void setupBinary(String browser, WebDriverManager manager) {
+        if (resolvedBinaries.contains(browser)) {
+            return;
+        }
+        synchronized (resolvedBinaries) {
+            if (resolvedBinaries.add(browser)) {
+                manager.setup();
+            }
+        }
+    }
+
     private static WebDriver createChromeDriver(boolean isHeadless) {
-        WebDriverManager.chromedriver().setup();
+        setupBinary("chrome", WebDriverManager.chromedriver());
         ChromeOptions options = new ChromeOptions();
 
         if (isHeadless) {
@@ -104,7 +314,7 @@ public class DriverManager {
     }
 
     private static WebDriver createFirefoxDriver(boolean isHeadless) {
-        WebDriverManager.firefoxdriver().setup();
+        setupBinary("firefox", WebDriverManager.firefoxdriver());
         FirefoxOptions options = new FirefoxOptions();
 
         if (isHeadless) {
@@ -120,7 +330,7 @@ public class DriverManager {
     }
 
     private static WebDriver createEdgeDriver(boolean isHeadless) {
-        WebDriverManager.edgedriver().setup();
+        setupBinary("edge", WebDriverManager.edgedriver());
         EdgeOptions options = new EdgeOptions();
 
         if (isHeadless) {
@@ -141,30 +351,28 @@ public class DriverManager {
         return new SafariDriver();
     }
 
-    private static void configureTimeouts() {
-        if (driver != null) {
-            int implicitWait = ConfigReader.getImplicitWait();
-            int pageLoadTimeout = ConfigReader.getPageLoadTimeout();
-
-            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
+    /**
+     * Send the configured timeouts once per session; a reused session already has them
+     * unless the configuration was reloaded with different values
+     */
+    private static void configureTimeouts(DriverSession session) {
+        Duration implicitWait = ConfigReader.getImplicitWaitDuration();
+        Duration pageLoadTimeout = ConfigReader.getPageLoadTimeoutDuration();
+        if (!session.needsTimeouts(implicitWait, pageLoadTimeout)) {
+            return;
         }
+        WebDriver.Timeouts timeouts = session.getDriver().manage().timeouts();
+        timeouts.implicitlyWait(implicitWait);
+        timeouts.pageLoadTimeout(pageLoadTimeout);
+        session.markTimeoutsApplied(implicitWait, pageLoadTimeout);
+        logger.debug("Applied timeouts to driver session #{}", session.getId());
     }
 
     /**
-     * Close and quit WebDriver instance
+     * Close and quit the current thread's WebDriver instance
      */
     public static void closeDriver() {
-        if (driver != null) {
-            try {
-                driver.quit();
-                logger.info("🔒 WebDriver closed successfully");
-            } catch (Exception e) {
-                logger.error("Error closing WebDriver: {}", e.getMessage());
-            } finally {
-                driver = null;
-            }
-        }
+        releaseDriver(true);
     }
 
     /**
@@ -175,19 +383,19 @@ public class DriverManager {
     }
 
     /**
-     * Check if WebDriver instance exists without creating a new one
+     * Check if the current thread holds a WebDriver session without creating a new one
      * @return true if driver exists, false otherwise
      */
     public static boolean hasDriver() {
-        return driver != null;
+        return currentSession.get() != null;
     }
 
     /**
-     * Get existing WebDriver instance without creating a new one
+     * Get the current thread's WebDriver instance without creating a new one
      * @return existing driver instance or null if none exists
      */
     public static WebDriver getExistingDriver() {
-        return driver;
+        DriverSession session = currentSession.get();
+        return session != null ? session.getDriver() : null;
     }
 }
-
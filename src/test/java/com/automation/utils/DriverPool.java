@@ -0,0 +1,374 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Driver Pool
+ * Bounded pool of WebDriver sessions for parallel scenario execution.
+ * A session is owned by exactly one thread between checkout and checkin;
+ * sessions held longer than the leak timeout, or by threads that have died,
+ * are reported and reclaimed by a background sweeper.
+ *
+ * When pre-warming is enabled, browsers are launched in the background ahead of
+ * demand and every consumed or discarded session is replaced asynchronously,
+ * so scenarios normally receive a browser that is already running.
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final int maxSize;
+    private final Semaphore permits;
+    private final BlockingDeque<DriverSession> idle = new LinkedBlockingDeque<>();
+    private final Set<DriverSession> checkedOut = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Boolean> reportedLeaks = new ConcurrentHashMap<>();
+    private final Supplier<WebDriver> factory;
+    private final Duration acquireTimeout;
+    private final Duration leakTimeout;
+    private final ScheduledExecutorService sweeper;
+
+    // Live sessions (idle + checked out) and launches still in progress
+    private final AtomicInteger liveCount = new AtomicInteger();
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private volatile ExecutorService launcher;
+    private volatile int warmTarget;
+
+    // Statistics
+    private final long createdAtNanos = System.nanoTime();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicLong totalCheckoutNanos = new AtomicLong();
+    private final AtomicLong firstDriverNanos = new AtomicLong(-1);
+
+    private volatile boolean closed;
+
+    /**
+     * @param maxSize maximum number of live sessions (idle + checked out)
+     * @param factory creates a new browser session
+     * @param acquireTimeout how long checkout waits for a free slot
+     * @param leakTimeout how long a session may stay checked out before it is reported
+     */
+    public DriverPool(int maxSize, Supplier<WebDriver> factory, Duration acquireTimeout, Duration leakTimeout) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Driver pool size must be at least 1, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.factory = factory;
+        this.acquireTimeout = acquireTimeout;
+        this.leakTimeout = leakTimeout;
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepSeconds = Math.max(5, Math.min(60, leakTimeout.getSeconds() / 4));
+        sweeper.scheduleWithFixedDelay(this::reclaimLeaks, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+
+        logger.info("Driver pool created (max size: {}, leak timeout: {}s)", maxSize, leakTimeout.getSeconds());
+    }
+
+    /**
+     * Launch browsers in the background so they are ready before the first checkout.
+     * Consumed and discarded sessions are replaced to keep this many idle sessions available.
+     * @param count number of idle sessions to keep warm (capped at the pool size)
+     */
+    public synchronized void prewarm(int count) {
+        if (closed || count < 1) {
+            return;
+        }
+        warmTarget = Math.min(count, maxSize);
+        if (launcher == null) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            launcher = Executors.newFixedThreadPool(warmTarget, runnable -> {
+                Thread thread = new Thread(runnable, "driver-pool-launcher-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        logger.info("🔥 Pre-warming {} browser session(s)", warmTarget);
+        replenish();
+    }
+
+    /**
+     * Check out a session for the calling thread.
+     * Reuses an idle session when available, waits for an in-flight launch,
+     * and only launches a browser synchronously as a last resort.
+     * @return session owned by the calling thread
+     */
+    public DriverSession checkout() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool is shut down");
+        }
+        long start = System.nanoTime();
+        acquirePermit();
+
+        DriverSession session;
+        try {
+            session = idle.pollFirst();
+            if (session != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                session = awaitLaunchOrCreate(start);
+            }
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        session.markCheckedOut(Thread.currentThread(), true);
+        checkedOut.add(session);
+        recordCheckout(start);
+        replenish();
+        logger.debug("Checked out {}", session);
+        return session;
+    }
+
+    /**
+     * Return a session to the pool
+     * @param session session previously obtained from {@link #checkout()}
+     * @param discard true to quit the browser instead of keeping it for reuse
+     */
+    public void checkin(DriverSession session, boolean discard) {
+        if (session == null || !checkedOut.remove(session)) {
+            return;
+        }
+        reportedLeaks.remove(session.getId());
+        session.markCheckedIn();
+
+        if (discard || closed) {
+            quit(session);
+        } else {
+            idle.offerFirst(session);
+            logger.debug("Checked in {}", session);
+        }
+        permits.release();
+        replenish();
+    }
+
+    /**
+     * Report sessions held past the leak timeout and reclaim sessions whose owner thread has died
+     */
+    void reclaimLeaks() {
+        for (DriverSession session : new ArrayList<>(checkedOut)) {
+            Thread owner = session.getOwner();
+            if (owner != null && !owner.isAlive()) {
+                logger.warn("⚠️ Reclaiming leaked {} - owner thread '{}' has terminated",
+                        session, owner.getName(), session.getCheckoutTrace());
+                checkin(session, true);
+            } else if (session.getCheckedOutFor().compareTo(leakTimeout) > 0
+                    && reportedLeaks.putIfAbsent(session.getId(), Boolean.TRUE) == null) {
+                logger.warn("⚠️ Possible driver leak: {} checked out for {}s",
+                        session, session.getCheckedOutFor().getSeconds(), session.getCheckoutTrace());
+            }
+        }
+    }
+
+    /**
+     * Quit every session and stop the sweeper
+     */
+    public void shutdown() {
+        closed = true;
+        sweeper.shutdownNow();
+        if (launcher != null) {
+            launcher.shutdownNow();
+        }
+
+        List<DriverSession> sessions = new ArrayList<>(idle);
+        idle.clear();
+        sessions.addAll(checkedOut);
+        checkedOut.clear();
+
+        for (DriverSession session : sessions) {
+            quit(session);
+        }
+        logger.info("🔒 Driver pool shut down ({} sessions closed)", sessions.size());
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public int getCheckedOutCount() {
+        return checkedOut.size();
+    }
+
+    /**
+     * Snapshot of pool hit/miss counters and checkout latency
+     * @return pool statistics
+     */
+    public Stats getStats() {
+        return new Stats(hits.get(), misses.get(), firstDriverNanos.get(), totalCheckoutNanos.get());
+    }
+
+    private void acquirePermit() {
+        try {
+            if (permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            reclaimLeaks();
+            if (permits.tryAcquire()) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver session", e);
+        }
+        throw new IllegalStateException(String.format(
+                "No driver session available after %ds (pool size: %d, checked out: %s)",
+                acquireTimeout.getSeconds(), maxSize, checkedOut));
+    }
+
+    /**
+     * Wait for a background launch to land in the idle queue, or create a session
+     * on the calling thread when nothing is in flight.
+     */
+    private DriverSession awaitLaunchOrCreate(long start) {
+        long deadline = start + acquireTimeout.toNanos();
+        try {
+            while (pendingLaunches.get() > 0 && System.nanoTime() < deadline) {
+                DriverSession session = idle.pollFirst(250, TimeUnit.MILLISECONDS);
+                if (session != null) {
+                    return session;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a driver session", e);
+        }
+        DriverSession session = idle.pollFirst();
+        return session != null ? session : create();
+    }
+
+    /**
+     * Launch sessions asynchronously until the warm target is met, without exceeding the pool size
+     */
+    private void replenish() {
+        ExecutorService executor = launcher;
+        if (executor == null || closed) {
+            return;
+        }
+        synchronized (this) {
+            while (idle.size() + pendingLaunches.get() < warmTarget
+                    && liveCount.get() + pendingLaunches.get() < maxSize) {
+                pendingLaunches.incrementAndGet();
+                executor.execute(this::launchInBackground);
+            }
+        }
+    }
+
+    private void launchInBackground() {
+        try {
+            DriverSession session = create();
+            if (closed) {
+                quit(session);
+            } else {
+                idle.offerLast(session);
+            }
+        } catch (Exception e) {
+            logger.error("Background browser launch failed: {}", e.getMessage());
+        } finally {
+            pendingLaunches.decrementAndGet();
+        }
+    }
+
+    private DriverSession create() {
+        liveCount.incrementAndGet();
+        try {
+            DriverSession session = new DriverSession(factory.get());
+            logger.info("🆕 Created driver session #{}", session.getId());
+            return session;
+        } catch (RuntimeException e) {
+            liveCount.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void recordCheckout(long start) {
+        long now = System.nanoTime();
+        totalCheckoutNanos.addAndGet(now - start);
+        firstDriverNanos.compareAndSet(-1, now - createdAtNanos);
+    }
+
+    private void quit(DriverSession session) {
+        liveCount.decrementAndGet();
+        try {
+            session.getDriver().quit();
+            logger.info("🔒 Closed driver session #{}", session.getId());
+        } catch (Exception e) {
+            logger.error("Error closing driver session #{}: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Pool statistics holder
+     */
+    public static class Stats {
+        private final int hits;
+        private final int misses;
+        private final long timeToFirstDriverNanos;
+        private final long totalCheckoutNanos;
+
+        public Stats(int hits, int misses, long timeToFirstDriverNanos, long totalCheckoutNanos) {
+            this.hits = hits;
+            this.misses = misses;
+            this.timeToFirstDriverNanos = timeToFirstDriverNanos;
+            this.totalCheckoutNanos = totalCheckoutNanos;
+        }
+
+        public int getHits() { return hits; }
+        public int getMisses() { return misses; }
+        public int getCheckouts() { return hits + misses; }
+
+        public double getHitRate() {
+            int checkouts = getCheckouts();
+            return checkouts == 0 ? 0.0 : (double) hits / checkouts;
+        }
+
+        /**
+         * @return time from pool creation to the first completed checkout, or null if none happened
+         */
+        public Duration getTimeToFirstDriver() {
+            return timeToFirstDriverNanos < 0 ? null : Duration.ofNanos(timeToFirstDriverNanos);
+        }
+
+        public Duration getAverageCheckoutTime() {
+            int checkouts = getCheckouts();
+            return checkouts == 0 ? Duration.ZERO : Duration.ofNanos(totalCheckoutNanos / checkouts);
+        }
+
+        @Override
+        public String toString() {
+            Duration first = getTimeToFirstDriver();
+            return String.format("Stats{checkouts=%d, hits=%d, misses=%d, hitRate=%.0f%%, " +
+                            "timeToFirstDriver=%s, avgCheckout=%dms}",
+                    getCheckouts(), hits, misses, getHitRate() * 100,
+                    first == null ? "n/a" : first.toMillis() + "ms",
+                    getAverageCheckoutTime().toMillis());
+        }
+    }
+}
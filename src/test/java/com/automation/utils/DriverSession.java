@@ -0,0 +1,131 @@
+package com.automation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver Session
+ * Wraps a pooled WebDriver together with its ownership and lifecycle metadata.
+ * The driver is decorated with the {@link CommandMetrics} listener, which counts
+ * (and times) every WebDriver command the session sends, and gets the
+ * {@link ResourceBlocker} profile when network blocking applies to it.
+ */
+public class DriverSession {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final int id;
+    private final WebDriver driver;
+    private final Instant createdAt;
+    private final ResourceBlocker resourceBlocker;
+
+    private volatile Thread owner;
+    private volatile Instant checkedOutAt;
+    private volatile Throwable checkoutTrace;
+    private volatile int useCount;
+
+    // Timeouts last sent to the browser; they survive the reset between scenarios
+    private volatile Duration appliedImplicitWait;
+    private volatile Duration appliedPageLoadTimeout;
+
+    private final AtomicLong commandCount = new AtomicLong();
+    private volatile long commandsAtCheckout;
+
+    DriverSession(WebDriver driver) {
+        this.id = SEQUENCE.incrementAndGet();
+        this.resourceBlocker = ResourceBlocker.install(driver);
+        this.driver = new EventFiringDecorator<>(CommandMetrics.listener(commandCount)).decorate(driver);
+        this.createdAt = Instant.now();
+    }
+
+    void markCheckedOut(Thread thread, boolean captureTrace) {
+        this.owner = thread;
+        this.checkedOutAt = Instant.now();
+        this.checkoutTrace = captureTrace ? new Throwable("Session #" + id + " checked out here") : null;
+        this.commandsAtCheckout = commandCount.get();
+        this.useCount++;
+    }
+
+    void markCheckedIn() {
+        this.owner = null;
+        this.checkedOutAt = null;
+        this.checkoutTrace = null;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return the blocker counting this browser's blocked requests, or null if nothing is blocked
+     */
+    public ResourceBlocker getResourceBlocker() {
+        return resourceBlocker;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Thread getOwner() {
+        return owner;
+    }
+
+    public Throwable getCheckoutTrace() {
+        return checkoutTrace;
+    }
+
+    public int getUseCount() {
+        return useCount;
+    }
+
+    /**
+     * @return true unless these timeouts were already applied to this session
+     */
+    boolean needsTimeouts(Duration implicitWait, Duration pageLoadTimeout) {
+        return !implicitWait.equals(appliedImplicitWait) || !pageLoadTimeout.equals(appliedPageLoadTimeout);
+    }
+
+    void markTimeoutsApplied(Duration implicitWait, Duration pageLoadTimeout) {
+        this.appliedImplicitWait = implicitWait;
+        this.appliedPageLoadTimeout = pageLoadTimeout;
+    }
+
+    /**
+     * @return WebDriver commands sent since the session was created
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    /**
+     * @return WebDriver commands sent since the current checkout
+     */
+    public long getCommandsSinceCheckout() {
+        return commandCount.get() - commandsAtCheckout;
+    }
+
+    /**
+     * Time since this session was checked out
+     * @return checkout duration, or zero if the session is idle
+     */
+    public Duration getCheckedOutFor() {
+        Instant since = checkedOutAt;
+        return since == null ? Duration.ZERO : Duration.between(since, Instant.now());
+    }
+
+    @Override
+    public String toString() {
+        Thread current = owner;
+        return String.format("DriverSession{id=%d, uses=%d, owner=%s}",
+                id, useCount, current == null ? "-" : current.getName());
+    }
+}
@@ -0,0 +1,304 @@
+package com.automation.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Keyword Automaton
+ * Aho-Corasick matcher that finds every occurrence of every keyword, across any number of
+ * keyword categories, in a single pass over the text. Matching is case-insensitive and
+ * works on the original text, so no lowercase copy is made and match positions refer
+ * to the text as given.
+ *
+ * By default keywords match as substrings ("load" matches "loads"). With whole-word
+ * matching enabled, a keyword edge made of a letter or digit must sit next to a
+ * non-word character or the start/end of the text.
+ *
+ * Instances are immutable and safe to share between threads; build once and reuse.
+ */
+public class KeywordAutomaton {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final boolean wholeWords;
+    private final String[] keywords;
+    private final String[] categories;
+
+    // Trie transitions per state, failure links and the pattern ids ending at each state
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final int[] failure;
+    private final int[][] outputs;
+
+    /**
+     * Compile keyword categories into an automaton
+     * @param keywordsByCategory keywords grouped by category name (a keyword may appear in several categories)
+     * @param wholeWords true to only report matches on word boundaries
+     */
+    public KeywordAutomaton(Map<String, ? extends Collection<String>> keywordsByCategory, boolean wholeWords) {
+        this.wholeWords = wholeWords;
+
+        List<String> keywordList = new ArrayList<>();
+        List<String> categoryList = new ArrayList<>();
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        newState(stateOutputs);
+
+        for (Map.Entry<String, ? extends Collection<String>> entry : keywordsByCategory.entrySet()) {
+            for (String raw : entry.getValue()) {
+                String keyword = raw == null ? "" : raw.trim();
+                if (keyword.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = Character.toLowerCase(keyword.charAt(i));
+                    Integer next = transitions.get(state).get(c);
+                    if (next == null) {
+                        next = newState(stateOutputs);
+                        transitions.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                stateOutputs.get(state).add(keywordList.size());
+                keywordList.add(keyword);
+                categoryList.add(entry.getKey());
+            }
+        }
+
+        this.keywords = keywordList.toArray(new String[0]);
+        this.categories = categoryList.toArray(new String[0]);
+        this.failure = new int[transitions.size()];
+        this.outputs = new int[transitions.size()][];
+        buildFailureLinks(stateOutputs);
+    }
+
+    /**
+     * Convenience factory for comma-separated keyword lists, as stored in properties files
+     * @param csvByCategory comma-separated keywords grouped by category name
+     * @param wholeWords true to only report matches on word boundaries
+     * @return compiled automaton
+     */
+    public static KeywordAutomaton fromCsv(Map<String, String> csvByCategory, boolean wholeWords) {
+        Map<String, List<String>> keywordsByCategory = new LinkedHashMap<>();
+        csvByCategory.forEach((category, csv) -> keywordsByCategory.put(category, parseCsv(csv)));
+        return new KeywordAutomaton(keywordsByCategory, wholeWords);
+    }
+
+    /**
+     * Split a comma-separated keyword list
+     * @param csv comma-separated keywords, may be null
+     * @return trimmed, non-empty keywords
+     */
+    public static List<String> parseCsv(String csv) {
+        if (csv == null || csv.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String keyword : csv.split(",")) {
+            if (!keyword.trim().isEmpty()) {
+                result.add(keyword.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find every keyword occurrence in one pass
+     * @param text text to scan, may be null
+     * @return all matches, ordered by end position
+     */
+    public ScanResult scan(CharSequence text) {
+        if (text == null || text.length() == 0 || keywords.length == 0) {
+            return new ScanResult(Collections.emptyList());
+        }
+        List<Match> matches = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != 0) {
+                state = failure[state];
+                next = transitions.get(state).get(c);
+            }
+            state = next == null ? 0 : next;
+
+            for (int id : outputs[state]) {
+                int end = i + 1;
+                int start = end - keywords[id].length();
+                if (!wholeWords || isWordBoundary(text, start, end)) {
+                    matches.add(new Match(keywords[id], categories[id], start, end));
+                }
+            }
+        }
+        return new ScanResult(matches);
+    }
+
+    /**
+     * @return number of compiled keywords across all categories
+     */
+    public int size() {
+        return keywords.length;
+    }
+
+    public boolean isWholeWords() {
+        return wholeWords;
+    }
+
+    private int newState(List<List<Integer>> stateOutputs) {
+        transitions.add(new HashMap<>());
+        stateOutputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /**
+     * Breadth-first pass: each state's failure link points to the longest proper suffix
+     * that is also a trie path, and inherits that state's outputs
+     */
+    private void buildFailureLinks(List<List<Integer>> stateOutputs) {
+        Queue<Integer> queue = new ArrayDeque<>();
+        outputs[0] = toArray(stateOutputs.get(0));
+        for (int child : transitions.get(0).values()) {
+            failure[child] = 0;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] own = toArray(stateOutputs.get(state));
+            int[] inherited = outputs[failure[state]];
+            outputs[state] = inherited.length == 0 ? own : concat(own, inherited);
+
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                while (target == null && fallback != 0) {
+                    fallback = failure[fallback];
+                    target = transitions.get(fallback).get(edge.getKey());
+                }
+                failure[child] = target == null ? 0 : target;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static boolean isWordBoundary(CharSequence text, int start, int end) {
+        boolean startOk = !Character.isLetterOrDigit(text.charAt(start))
+                || start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+        boolean endOk = !Character.isLetterOrDigit(text.charAt(end - 1))
+                || end == text.length() || !Character.isLetterOrDigit(text.charAt(end));
+        return startOk && endOk;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * Single keyword occurrence
+     */
+    public static class Match {
+        private final String keyword;
+        private final String category;
+        private final int start;
+        private final int end;
+
+        public Match(String keyword, String category, int start, int end) {
+            this.keyword = keyword;
+            this.category = category;
+            this.start = start;
+            this.end = end;
+        }
+
+        public String getKeyword() { return keyword; }
+        public String getCategory() { return category; }
+
+        /**
+         * @return index of the first matched character in the scanned text
+         */
+        public int getStart() { return start; }
+
+        /**
+         * @return index after the last matched character in the scanned text
+         */
+        public int getEnd() { return end; }
+
+        /**
+         * Whole-word check for a match found by a substring scan
+         * @param text the text this match was found in
+         * @return true if the match sits on word boundaries
+         */
+        public boolean isWholeWordIn(CharSequence text) {
+            return isWordBoundary(text, start, end);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s:'%s'@%d", category, keyword, start);
+        }
+    }
+
+    /**
+     * All matches found by one scan, with per-category lookups
+     */
+    public static class ScanResult {
+        private final List<Match> matches;
+        private final Map<String, List<Match>> byCategory = new LinkedHashMap<>();
+
+        ScanResult(List<Match> matches) {
+            this.matches = Collections.unmodifiableList(matches);
+            for (Match match : matches) {
+                byCategory.computeIfAbsent(match.getCategory(), k -> new ArrayList<>()).add(match);
+            }
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+
+        public List<Match> getMatches(String category) {
+            return byCategory.getOrDefault(category, Collections.emptyList());
+        }
+
+        public boolean hasMatch(String category) {
+            return byCategory.containsKey(category);
+        }
+
+        /**
+         * @return distinct keywords matched in the category, in order of first occurrence
+         */
+        public Set<String> getKeywords(String category) {
+            Set<String> result = new LinkedHashSet<>();
+            for (Match match : getMatches(category)) {
+                result.add(match.getKeyword());
+            }
+            return result;
+        }
+
+        public Set<String> getCategories() {
+            return Collections.unmodifiableSet(byCategory.keySet());
+        }
+
+        @Override
+        public String toString() {
+            return "ScanResult" + matches;
+        }
+    }
+}
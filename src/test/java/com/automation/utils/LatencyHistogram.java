@@ -0,0 +1,113 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram
+ * Fixed-memory, HDR-style histogram of microsecond latencies. Values below 128 us are
+ * counted exactly; above that, each power of two is split into 64 linear sub-buckets,
+ * so any recorded value is reported within about 1.6% of its true value. Covers up to
+ * 2^40 us (about 12 days); larger values are clamped.
+ *
+ * Recording is lock-free and safe from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 33;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << (MAX_SHIFT + 7)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record one latency
+     * @param nanos duration in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(MAX_VALUE, Math.max(0, nanos / 1_000));
+        counts.incrementAndGet(indexFor(micros));
+        count.increment();
+        totalMicros.add(micros);
+        minMicros.accumulateAndGet(micros, Math::min);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * @param percentile 0 - 100
+     * @return the latency (us) at or below which the given percentage of values fall
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * Math.min(100.0, percentile) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalent(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * @return count, total, min, mean, max and the usual percentiles, in microseconds
+     */
+    public ObjectNode toJson() {
+        ObjectNode json = JsonNodeFactory.instance.objectNode();
+        long n = count.sum();
+        json.put("count", n);
+        json.put("totalMicros", totalMicros.sum());
+        json.put("minMicros", n == 0 ? 0 : minMicros.get());
+        json.put("meanMicros", n == 0 ? 0 : totalMicros.sum() / n);
+        json.put("p50Micros", getValueAtPercentile(50));
+        json.put("p90Micros", getValueAtPercentile(90));
+        json.put("p99Micros", getValueAtPercentile(99));
+        json.put("p999Micros", getValueAtPercentile(99.9));
+        json.put("maxMicros", maxMicros.get());
+        return json;
+    }
+
+    static int indexFor(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        // Shift so the value lands in [64, 128): the shift selects the bucket, the rest the sub-bucket
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 6;
+        return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) (micros >> shift) - SUB_BUCKETS;
+    }
+
+    static long highestEquivalent(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,223 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resource Blocker
+ * Keeps Chromium browsers from downloading what the tests never look at: images, fonts,
+ * media and analytics/third-party domains (network.block.*). The patterns are sent once per
+ * browser with CDP Network.setBlockedURLs, so blocked requests fail inside the browser
+ * without a round trip per request.
+ *
+ * Every blocked request is counted from Network.loadingFailed (blockedReason "inspector") by
+ * resource type. A blocked response is never downloaded, so its size is unknown; the bytes
+ * saved are estimated from a typical transfer size per resource type and always reported as
+ * estimates.
+ */
+public class ResourceBlocker {
+    private static final Logger logger = LogManager.getLogger(ResourceBlocker.class);
+
+    public static final String MODE_OFF = "off";
+    public static final String MODE_HEADLESS = "headless";
+    public static final String MODE_ALWAYS = "always";
+
+    // URL patterns per network.block.types entry; the trailing * keeps query strings matching
+    private static final Map<String, List<String>> TYPE_PATTERNS = Map.of(
+            "image", List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.avif*", "*.svg*", "*.ico*"),
+            "font", List.of("*.woff*", "*.ttf*", "*.otf*", "*.eot*"),
+            "media", List.of("*.mp4*", "*.webm*", "*.mp3*", "*.ogg*", "*.wav*", "*.m4a*", "*.mov*"));
+
+    // Typical transfer size per CDP resource type, used to estimate what a blocked request would have cost
+    private static final Map<String, Long> ESTIMATED_BYTES = Map.of(
+            "Image", 25_000L,
+            "Font", 30_000L,
+            "Media", 250_000L,
+            "Script", 45_000L,
+            "Stylesheet", 15_000L,
+            "XHR", 2_000L,
+            "Fetch", 2_000L);
+    private static final long ESTIMATED_BYTES_OTHER = 5_000L;
+
+    // Run totals across all browsers
+    private static final Map<String, LongAdder> totalRequests = new ConcurrentHashMap<>();
+    private static final AtomicLong totalBytes = new AtomicLong();
+
+    // Since the last drain (one scenario); written from the DevTools event thread
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+    private ResourceBlocker() {
+    }
+
+    /**
+     * Start blocking in a new browser if network.block.mode applies to it
+     * @param driver undecorated driver, right after launch
+     * @return the blocker counting this browser's blocked requests, or null if nothing is blocked
+     */
+    static ResourceBlocker install(WebDriver driver) {
+        String mode = ConfigReader.getNetworkBlockMode().toLowerCase(Locale.ROOT);
+        if (MODE_OFF.equals(mode) || (MODE_HEADLESS.equals(mode) && !ConfigReader.isHeadless())) {
+            return null;
+        }
+        if (!(driver instanceof HasCdp) || !(driver instanceof HasDevTools)) {
+            logger.debug("Resource blocking needs a Chromium browser, skipped");
+            return null;
+        }
+        List<String> patterns = blockedPatterns();
+        if (patterns.isEmpty()) {
+            return null;
+        }
+
+        ResourceBlocker blocker = new ResourceBlocker();
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(new Event<>("Network.loadingFailed", input -> input.read(Map.class)),
+                    blocker::onLoadingFailed);
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", patterns)));
+        } catch (Exception e) {
+            logger.warn("⚠️ Resource blocking could not be enabled: {}", e.getMessage());
+            return null;
+        }
+        logger.info("🚫 Blocking {} URL pattern(s) (types: {}, domains: {})", patterns.size(),
+                ConfigReader.getNetworkBlockTypes(), ConfigReader.getNetworkBlockDomains());
+        return blocker;
+    }
+
+    /**
+     * Chrome URL patterns for the configured types, domains and extra patterns
+     */
+    static List<String> blockedPatterns() {
+        List<String> patterns = new ArrayList<>();
+        for (String type : split(ConfigReader.getNetworkBlockTypes())) {
+            List<String> typePatterns = TYPE_PATTERNS.get(type.toLowerCase(Locale.ROOT));
+            if (typePatterns == null) {
+                logger.warn("⚠️ Unknown network.block.types entry '{}' (expected one of {})", type, TYPE_PATTERNS.keySet());
+            } else {
+                patterns.addAll(typePatterns);
+            }
+        }
+        for (String domain : split(ConfigReader.getNetworkBlockDomains())) {
+            // The domain itself and any subdomain, over http or https
+            patterns.add("*://" + domain + "/*");
+            patterns.add("*://*." + domain + "/*");
+        }
+        patterns.addAll(split(ConfigReader.getNetworkBlockPatterns()));
+        return patterns;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void onLoadingFailed(Map params) {
+        if (!"inspector".equals(params.get("blockedReason"))) {
+            return;
+        }
+        Object type = params.get("type");
+        String resourceType = type == null ? "Other" : type.toString();
+        requests.computeIfAbsent(resourceType, key -> new LongAdder()).increment();
+        totalRequests.computeIfAbsent(resourceType, key -> new LongAdder()).increment();
+        totalBytes.addAndGet(estimatedBytes(resourceType));
+    }
+
+    /**
+     * Blocked requests since the previous call; call once per scenario
+     * @return blocked requests by resource type with the estimated bytes saved
+     */
+    public Stats drain() {
+        Map<String, Long> counts = new TreeMap<>();
+        requests.forEach((type, count) -> counts.put(type, count.sumThenReset()));
+        counts.values().removeIf(count -> count == 0);
+        return new Stats(counts);
+    }
+
+    /**
+     * Log blocked requests and estimated savings for the whole run
+     */
+    public static void logSummary() {
+        if (totalRequests.isEmpty()) {
+            return;
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        totalRequests.forEach((type, count) -> counts.put(type, count.sum()));
+        Stats run = new Stats(counts);
+        logger.info("🚫 Blocked resources - requests: {}, estimated savings: {} ({})",
+                run.getRequests(), formatBytes(totalBytes.get()), counts);
+    }
+
+    private static long estimatedBytes(String resourceType) {
+        return ESTIMATED_BYTES.getOrDefault(resourceType, ESTIMATED_BYTES_OTHER);
+    }
+
+    private static List<String> split(String value) {
+        List<String> items = new ArrayList<>();
+        if (value == null) {
+            return items;
+        }
+        Arrays.stream(value.split(",")).map(String::trim).filter(item -> !item.isEmpty()).forEach(items::add);
+        return items;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes >= 1_000_000) {
+            return String.format(Locale.ROOT, "~%.1f MB", bytes / 1_000_000.0);
+        }
+        return String.format(Locale.ROOT, "~%d KB", bytes / 1_000);
+    }
+
+    /**
+     * Blocked requests by CDP resource type (Image, Font, Script ...)
+     */
+    public static class Stats {
+        private final Map<String, Long> requestsByType;
+
+        Stats(Map<String, Long> requestsByType) {
+            this.requestsByType = requestsByType;
+        }
+
+        public Map<String, Long> getRequestsByType() {
+            return requestsByType;
+        }
+
+        public long getRequests() {
+            return requestsByType.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * @return bytes the blocked requests would typically have transferred (an estimate, not a measurement)
+         */
+        public long getEstimatedBytes() {
+            return requestsByType.entrySet().stream()
+                    .mapToLong(entry -> entry.getValue() * estimatedBytes(entry.getKey()))
+                    .sum();
+        }
+
+        public boolean isEmpty() {
+            return requestsByType.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                    "Blocked %d request(s), estimated savings %s%n", getRequests(), formatBytes(getEstimatedBytes())));
+            requestsByType.forEach((type, count) -> text.append(String.format(Locale.ROOT,
+                    "  %-12s %5d  %s%n", type, count, formatBytes(count * estimatedBytes(type)))));
+            return text.toString();
+        }
+    }
+}
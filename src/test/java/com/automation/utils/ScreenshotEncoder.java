@@ -0,0 +1,134 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * Screenshot Encoder
+ * Capture modes for report screenshots and the downscaling/JPEG encoding used by the
+ * compressed mode. Encoding runs on the attachment pipeline, never on the scenario thread.
+ *
+ * Modes (screenshot.pass.mode / screenshot.failure.mode):
+ * - full: the PNG as returned by the browser
+ * - compressed: scaled down to screenshot.max.width and stored as JPEG at screenshot.jpeg.quality
+ * - element: PNG of the screenshot.element.selector element only
+ * - none: no capture
+ */
+public class ScreenshotEncoder {
+    private static final Logger logger = LogManager.getLogger(ScreenshotEncoder.class);
+
+    public enum Mode {
+        FULL, COMPRESSED, ELEMENT, NONE;
+
+        static Mode parse(String value, Mode defaultMode) {
+            try {
+                return value == null || value.isBlank() ? defaultMode : valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Unknown screenshot mode '{}', using {}", value, defaultMode);
+                return defaultMode;
+            }
+        }
+    }
+
+    private ScreenshotEncoder() {
+        // Private constructor
+    }
+
+    /**
+     * @return capture mode for passed scenarios and explicit report screenshots
+     */
+    public static Mode passMode() {
+        return Mode.parse(ConfigReader.getScreenshotPassMode(), Mode.COMPRESSED);
+    }
+
+    /**
+     * @return capture mode for failed scenarios (none when screenshot.on.failure=false)
+     */
+    public static Mode failureMode() {
+        if (!ConfigReader.isScreenshotOnFailure()) {
+            return Mode.NONE;
+        }
+        return Mode.parse(ConfigReader.getScreenshotFailureMode(), Mode.FULL);
+    }
+
+    /**
+     * Downscale a PNG to the configured width and re-encode it as JPEG
+     * @param png screenshot as returned by the browser
+     * @return JPEG bytes, or null if the screenshot could not be decoded or encoded
+     */
+    public static byte[] compress(byte[] png) {
+        return compress(png, ConfigReader.getScreenshotMaxWidth(), ConfigReader.getScreenshotJpegQuality());
+    }
+
+    /**
+     * Downscale a PNG and re-encode it as JPEG
+     * @param png screenshot as returned by the browser
+     * @param maxWidth target width in pixels; narrower images are not scaled
+     * @param quality JPEG quality between 0 and 1
+     * @return JPEG bytes, or null if the screenshot could not be decoded or encoded (callers keep the PNG)
+     */
+    public static byte[] compress(byte[] png, int maxWidth, float quality) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                logger.warn("Could not decode screenshot, keeping PNG");
+                return null;
+            }
+            int width = source.getWidth();
+            int height = source.getHeight();
+            if (maxWidth > 0 && width > maxWidth) {
+                height = Math.max(1, Math.round(height * (float) maxWidth / width));
+                width = maxWidth;
+            }
+            // JPEG has no alpha channel: draw onto an RGB canvas
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            return writeJpeg(scaled, quality);
+        } catch (IOException e) {
+            logger.warn("Could not compress screenshot, keeping PNG: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] writeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(Math.max(0f, Math.min(1f, quality)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,286 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.GherkinDocument;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shard Planner
+ * Splits the scenarios selected by a tag expression into shards that should take about
+ * the same time to run. Scenario durations come from a previous cucumber.json report;
+ * scenarios without history are estimated with the median known duration.
+ *
+ * Assignment uses longest-processing-time-first: scenarios are sorted by duration and
+ * each goes to the shard with the least work so far. Ties are broken by feature path and
+ * line, so every JVM or CI agent given the same features and history computes the same
+ * plan and runs only its own part.
+ */
+public class ShardPlanner {
+    private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Used when no history exists at all: every scenario weighs the same
+    private static final long DEFAULT_SCENARIO_NANOS = 1_000_000_000L;
+
+    private ShardPlanner() {
+        // Private constructor
+    }
+
+    /**
+     * Plan every shard
+     * @param featuresRoot directory containing .feature files
+     * @param tagExpression cucumber tag expression, or null/empty for all scenarios
+     * @param durationsFile previous cucumber.json report (may not exist)
+     * @param shardCount number of shards
+     * @return scenarios per shard, index 0 is shard 1
+     */
+    public static List<List<ScenarioRef>> plan(Path featuresRoot, String tagExpression, Path durationsFile,
+                                               int shardCount) throws IOException {
+        List<ScenarioRef> scenarios = collectScenarios(featuresRoot, tagExpression);
+        applyDurations(scenarios, readDurations(durationsFile));
+
+        List<ScenarioRef> ordered = new ArrayList<>(scenarios);
+        ordered.sort(Comparator.comparingLong(ScenarioRef::getEstimatedNanos).reversed()
+                .thenComparing(ScenarioRef::getUri)
+                .thenComparingInt(ScenarioRef::getLine));
+
+        List<List<ScenarioRef>> shards = new ArrayList<>();
+        long[] load = new long[shardCount];
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(i -> load[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+            lightest.add(i);
+        }
+        for (ScenarioRef scenario : ordered) {
+            int shard = lightest.poll();
+            shards.get(shard).add(scenario);
+            load[shard] += scenario.getEstimatedNanos();
+            lightest.add(shard);
+        }
+
+        for (int i = 0; i < shardCount; i++) {
+            shards.get(i).sort(Comparator.comparing(ScenarioRef::getUri).thenComparingInt(ScenarioRef::getLine));
+            logger.info("🧩 Shard {}/{} - {} scenario(s), estimated {} s",
+                    i + 1, shardCount, shards.get(i).size(), load[i] / 1_000_000_000L);
+        }
+        return shards;
+    }
+
+    /**
+     * Format scenarios as a cucumber.features value: "path:line:line,path:line"
+     * @param scenarios scenarios of one shard
+     * @return feature selection, empty if there are no scenarios
+     */
+    public static String toFeatureSelection(List<ScenarioRef> scenarios) {
+        Map<String, List<Integer>> linesByUri = new TreeMap<>();
+        for (ScenarioRef scenario : scenarios) {
+            linesByUri.computeIfAbsent(scenario.getUri(), k -> new ArrayList<>()).add(scenario.getLine());
+        }
+        StringJoiner selection = new StringJoiner(",");
+        linesByUri.forEach((uri, lines) -> selection.add(uri + lines.stream()
+                .sorted().map(line -> ":" + line).collect(Collectors.joining())));
+        return selection.toString();
+    }
+
+    /**
+     * Parse every feature file and return the pickles matching the tag expression
+     */
+    static List<ScenarioRef> collectScenarios(Path featuresRoot, String tagExpression) throws IOException {
+        Expression tags = tagExpression == null || tagExpression.isBlank()
+                ? null : TagExpressionParser.parse(tagExpression);
+        GherkinParser parser = GherkinParser.builder().includeSource(false).build();
+
+        List<Path> featureFiles;
+        try (Stream<Path> paths = Files.walk(featuresRoot)) {
+            featureFiles = paths.filter(path -> path.toString().endsWith(".feature")).sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<ScenarioRef> scenarios = new ArrayList<>();
+        for (Path featureFile : featureFiles) {
+            String uri = normalizeUri(featureFile.toString());
+            Map<String, Integer> lines = new HashMap<>();
+            List<Pickle> pickles = new ArrayList<>();
+            parser.parse(featureFile).forEach(envelope -> {
+                envelope.getGherkinDocument().ifPresent(document -> indexLines(document, lines));
+                envelope.getPickle().ifPresent(pickles::add);
+                envelope.getParseError().ifPresent(error ->
+                        logger.warn("Skipping unparsable feature {}: {}", uri, error.getMessage()));
+            });
+            for (Pickle pickle : pickles) {
+                List<String> pickleTags = pickle.getTags().stream().map(PickleTag::getName)
+                        .collect(Collectors.toList());
+                if (tags != null && !tags.evaluate(pickleTags)) {
+                    continue;
+                }
+                // The last AST node is the examples row for outlines, the scenario otherwise
+                List<String> nodes = pickle.getAstNodeIds();
+                Integer line = lines.get(nodes.get(nodes.size() - 1));
+                scenarios.add(new ScenarioRef(uri, line == null ? 0 : line, pickle.getName()));
+            }
+        }
+        return scenarios;
+    }
+
+    private static void indexLines(GherkinDocument document, Map<String, Integer> lines) {
+        document.getFeature().ifPresent(feature -> {
+            for (FeatureChild child : feature.getChildren()) {
+                child.getScenario().ifPresent(scenario -> indexScenario(scenario, lines));
+                child.getRule().ifPresent(rule -> {
+                    for (RuleChild ruleChild : rule.getChildren()) {
+                        ruleChild.getScenario().ifPresent(scenario -> indexScenario(scenario, lines));
+                    }
+                });
+            }
+        });
+    }
+
+    private static void indexScenario(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine().intValue());
+            }
+        }
+    }
+
+    /**
+     * Read scenario durations (steps plus hooks, including the preceding background) from a cucumber.json report
+     * @return duration in nanoseconds by "uri:line"
+     */
+    static Map<String, Long> readDurations(Path durationsFile) {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        if (durationsFile == null || !Files.isRegularFile(durationsFile)) {
+            logger.info("No scenario duration history at {} - shards are balanced by scenario count", durationsFile);
+            return durations;
+        }
+        try {
+            for (JsonNode feature : MAPPER.readTree(durationsFile.toFile())) {
+                String uri = normalizeUri(feature.path("uri").asText());
+                long background = 0;
+                for (JsonNode element : feature.path("elements")) {
+                    long duration = sumDurations(element.path("before")) + sumDurations(element.path("steps"))
+                            + sumDurations(element.path("after"));
+                    if ("background".equals(element.path("type").asText())) {
+                        background = duration;
+                        continue;
+                    }
+                    // A browser matrix report holds each scenario once per browser; plan for the slowest
+                    durations.merge(uri + ":" + element.path("line").asInt(), duration + background, Long::max);
+                    background = 0;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read scenario durations from {}: {}", durationsFile, e.getMessage());
+        }
+        return durations;
+    }
+
+    private static long sumDurations(JsonNode items) {
+        long total = 0;
+        for (JsonNode item : items) {
+            total += item.path("result").path("duration").asLong(0);
+        }
+        return total;
+    }
+
+    private static void applyDurations(List<ScenarioRef> scenarios, Map<String, Long> durations) {
+        List<Long> known = new ArrayList<>();
+        for (ScenarioRef scenario : scenarios) {
+            Long duration = durations.get(scenario.getKey());
+            if (duration != null) {
+                scenario.estimatedNanos = duration;
+                scenario.fromHistory = true;
+                known.add(duration);
+            }
+        }
+        Collections.sort(known);
+        long fallback = known.isEmpty() ? DEFAULT_SCENARIO_NANOS : known.get(known.size() / 2);
+        for (ScenarioRef scenario : scenarios) {
+            if (!scenario.fromHistory) {
+                scenario.estimatedNanos = fallback;
+            }
+        }
+        logger.info("🧩 {} scenario(s) planned, {} with duration history", scenarios.size(), known.size());
+    }
+
+    /**
+     * Reduce file: and classpath-relative URIs to a project-relative path so report
+     * entries and parsed features can be matched
+     */
+    static String normalizeUri(String uri) {
+        String path = uri.startsWith("file:") ? uri.substring("file:".length()) : uri;
+        Path candidate = Paths.get(path);
+        if (candidate.isAbsolute()) {
+            Path projectRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath();
+            if (candidate.startsWith(projectRoot)) {
+                candidate = projectRoot.relativize(candidate);
+            }
+        }
+        return candidate.normalize().toString().replace('\\', '/');
+    }
+
+    /**
+     * Scenario (or single examples row) selected for a shard
+     */
+    public static class ScenarioRef {
+        private final String uri;
+        private final int line;
+        private final String name;
+        private long estimatedNanos;
+        private boolean fromHistory;
+
+        ScenarioRef(String uri, int line, String name) {
+            this.uri = uri;
+            this.line = line;
+            this.name = name;
+        }
+
+        public String getUri() { return uri; }
+        public int getLine() { return line; }
+        public String getName() { return name; }
+        public long getEstimatedNanos() { return estimatedNanos; }
+        public boolean isFromHistory() { return fromHistory; }
+
+        String getKey() {
+            return uri + ":" + line;
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + " (" + name + ")";
+        }
+    }
+}
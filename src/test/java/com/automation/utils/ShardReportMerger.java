@@ -0,0 +1,282 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shard Report Merger
+ * Combines the per-shard output of a sharded run (target/shards/shard-N, collected from
+ * every agent into one workspace) into the regular single-run layout:
+ * - cucumber.json: features split across shards are merged, scenarios ordered by line
+ *   (also becomes the duration history for the next sharded run)
+ * - rerun.txt: failed scenario lines per feature, for FailedTestRunner
+ * - allure-results: all result and attachment files, then the Allure report is generated
+ *
+ * The per-browser output of a BrowserMatrix run (target/matrix/chrome, target/matrix/firefox ...)
+ * is merged the same way, except that every browser keeps its own copy of each feature in
+ * cucumber.json, named "Feature [firefox]" and tagged @browser-firefox, and every Allure result
+ * gets a "browser" parameter and tag.
+ *
+ * Usage: ShardReportMerger [shardsDir]
+ */
+public class ShardReportMerger {
+    private static final Logger logger = LogManager.getLogger(ShardReportMerger.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern RERUN_ENTRY = Pattern.compile("^(.*?)((?::\\d+)+)$");
+
+    private static final String MERGED_JSON = "target/cucumber-reports/cucumber.json";
+    private static final String MERGED_RERUN = "target/rerun.txt";
+    private static final String MERGED_ALLURE = "target/allure-results";
+
+    private ShardReportMerger() {
+        // Private constructor
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path shardsDir = Paths.get(args.length > 0 ? args[0] : ConfigReader.getShardOutputDir());
+        merge(shardsDir);
+        AllureReport.generate(MERGED_ALLURE);
+    }
+
+    /**
+     * Merge every shard-* folder below the shards directory
+     * @param shardsDir folder containing shard-1 .. shard-N
+     */
+    public static void merge(Path shardsDir) throws IOException {
+        List<Path> shards;
+        try (Stream<Path> children = Files.list(shardsDir)) {
+            shards = children.filter(path -> Files.isDirectory(path) && path.getFileName().toString().startsWith("shard-"))
+                    .sorted().collect(Collectors.toList());
+        }
+        if (shards.isEmpty()) {
+            logger.warn("No shard folders found in {}", shardsDir);
+            return;
+        }
+        logger.info("🧩 Merging {} shard(s) from {}", shards.size(), shardsDir);
+
+        mergeCucumberJson(shards, Paths.get(MERGED_JSON));
+        mergeRerun(shards, Paths.get(MERGED_RERUN));
+        mergeAllureResults(shards, Paths.get(MERGED_ALLURE));
+    }
+
+    /**
+     * Merge the per-browser folders of a browser matrix run
+     * @param matrixDir folder containing one folder per browser
+     * @param browsers browsers of the run, in report order
+     */
+    public static void mergeBrowserMatrix(Path matrixDir, List<String> browsers) throws IOException {
+        Map<String, Path> dirs = new LinkedHashMap<>();
+        for (String browser : browsers) {
+            Path dir = matrixDir.resolve(browser);
+            if (Files.isDirectory(dir)) {
+                dirs.put(browser, dir);
+            } else {
+                logger.warn("No results for {} in {}", browser, dir);
+            }
+        }
+        if (dirs.isEmpty()) {
+            return;
+        }
+        logger.info("🧭 Merging {} browser(s) from {}", dirs.size(), matrixDir);
+
+        mergeBrowserCucumberJson(dirs, Paths.get(MERGED_JSON));
+        mergeRerun(new ArrayList<>(dirs.values()), Paths.get(MERGED_RERUN));
+        mergeBrowserAllureResults(dirs, Paths.get(MERGED_ALLURE));
+    }
+
+    private static void mergeBrowserCucumberJson(Map<String, Path> dirs, Path target) throws IOException {
+        // Features by uri, then browser, so each feature's browsers sit next to each other
+        Map<String, List<ObjectNode>> features = new TreeMap<>();
+        int scenarios = 0;
+        for (Map.Entry<String, Path> entry : dirs.entrySet()) {
+            Path json = entry.getValue().resolve("cucumber.json");
+            if (!Files.isRegularFile(json)) {
+                logger.warn("Missing {}", json);
+                continue;
+            }
+            for (JsonNode feature : MAPPER.readTree(json.toFile())) {
+                ObjectNode tagged = tagBrowser((ObjectNode) feature.deepCopy(), entry.getKey());
+                features.computeIfAbsent(feature.path("uri").asText(), k -> new ArrayList<>()).add(tagged);
+                scenarios += feature.path("elements").size();
+            }
+        }
+
+        ArrayNode result = MAPPER.createArrayNode();
+        features.values().forEach(result::addAll);
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        MAPPER.writeValue(target.toFile(), result);
+        logger.info("🧭 Merged cucumber.json: {} feature(s) on {} browser(s), {} element(s) -> {}",
+                features.size(), dirs.size(), scenarios, target);
+    }
+
+    /**
+     * Add the browser to the feature's name and id, and tag the feature and its scenarios (e.g. @browser-firefox)
+     */
+    private static ObjectNode tagBrowser(ObjectNode feature, String browser) {
+        String tag = "@browser-" + browser;
+        feature.put("name", feature.path("name").asText() + " [" + browser + "]");
+        feature.put("id", feature.path("id").asText() + ";" + browser);
+        feature.withArray("tags").addObject().put("name", tag).put("type", "Tag");
+        for (JsonNode element : feature.path("elements")) {
+            if (!"background".equals(element.path("type").asText())) {
+                ((ObjectNode) element).withArray("tags").addObject().put("name", tag);
+            }
+        }
+        return feature;
+    }
+
+    /**
+     * Give an Allure result a "browser" parameter, a browser-firefox style tag and a history id of its
+     * own; results sharing a history id are shown as retries of one test
+     */
+    private static ObjectNode tagAllureResult(ObjectNode result, String browser) {
+        if (result.has("historyId")) {
+            result.put("historyId", result.path("historyId").asText() + "-" + browser);
+        }
+        result.withArray("parameters").addObject().put("name", "browser").put("value", browser);
+        result.withArray("labels").addObject().put("name", "tag").put("value", "browser-" + browser);
+        return result;
+    }
+
+    private static void mergeCucumberJson(List<Path> shards, Path target) throws IOException {
+        Map<String, ObjectNode> features = new TreeMap<>();
+        int scenarios = 0;
+        for (Path shard : shards) {
+            Path json = shard.resolve("cucumber.json");
+            if (!Files.isRegularFile(json)) {
+                logger.warn("Missing {}", json);
+                continue;
+            }
+            for (JsonNode feature : MAPPER.readTree(json.toFile())) {
+                String uri = feature.path("uri").asText();
+                ObjectNode merged = features.get(uri);
+                if (merged == null) {
+                    features.put(uri, (ObjectNode) feature.deepCopy());
+                } else {
+                    feature.path("elements").forEach(((ArrayNode) merged.withArray("elements"))::add);
+                }
+                scenarios += feature.path("elements").size();
+            }
+        }
+
+        ArrayNode result = MAPPER.createArrayNode();
+        for (ObjectNode feature : features.values()) {
+            // Keep each background directly before the scenario it ran with
+            List<List<JsonNode>> groups = new ArrayList<>();
+            List<JsonNode> pending = new ArrayList<>();
+            for (JsonNode element : feature.path("elements")) {
+                pending.add(element);
+                if (!"background".equals(element.path("type").asText())) {
+                    groups.add(pending);
+                    pending = new ArrayList<>();
+                }
+            }
+            groups.sort(Comparator.comparingInt(group -> group.get(group.size() - 1).path("line").asInt()));
+            ArrayNode elements = MAPPER.createArrayNode();
+            groups.forEach(group -> group.forEach(elements::add));
+            feature.set("elements", elements);
+            result.add(feature);
+        }
+
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        MAPPER.writeValue(target.toFile(), result);
+        logger.info("🧩 Merged cucumber.json: {} feature(s), {} element(s) -> {}", features.size(), scenarios, target);
+    }
+
+    private static void mergeRerun(List<Path> shards, Path target) throws IOException {
+        Map<String, TreeSet<Integer>> linesByUri = new LinkedHashMap<>();
+        for (Path shard : shards) {
+            Path rerun = shard.resolve("rerun.txt");
+            if (!Files.isRegularFile(rerun)) {
+                continue;
+            }
+            for (String entry : Files.readString(rerun, StandardCharsets.UTF_8).split("\\s+")) {
+                Matcher matcher = RERUN_ENTRY.matcher(entry.trim());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                TreeSet<Integer> lines = linesByUri.computeIfAbsent(matcher.group(1), k -> new TreeSet<>());
+                for (String line : matcher.group(2).substring(1).split(":")) {
+                    lines.add(Integer.parseInt(line));
+                }
+            }
+        }
+
+        StringBuilder merged = new StringBuilder();
+        linesByUri.forEach((uri, lines) -> {
+            merged.append(uri);
+            lines.forEach(line -> merged.append(':').append(line));
+            merged.append('\n');
+        });
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Files.writeString(target, merged.toString(), StandardCharsets.UTF_8);
+        logger.info("🧩 Merged rerun file: {} feature(s) with failures -> {}", linesByUri.size(), target);
+    }
+
+    private static void mergeAllureResults(List<Path> shards, Path target) throws IOException {
+        Files.createDirectories(target);
+        int copied = 0;
+        for (Path shard : shards) {
+            copied += copyAllureResults(shard, target, null);
+        }
+        logger.info("🧩 Merged {} Allure result file(s) -> {}", copied, target);
+    }
+
+    private static void mergeBrowserAllureResults(Map<String, Path> dirs, Path target) throws IOException {
+        Files.createDirectories(target);
+        int copied = 0;
+        for (Map.Entry<String, Path> entry : dirs.entrySet()) {
+            copied += copyAllureResults(entry.getValue(), target, entry.getKey());
+        }
+        logger.info("🧭 Merged {} Allure result file(s), tagged by browser -> {}", copied, target);
+    }
+
+    /**
+     * Copy a folder's allure-results into the merged folder. With a browser, result files are tagged
+     * on the way; the source files stay as the run wrote them, so merging again gives the same output
+     * @return number of files copied
+     */
+    private static int copyAllureResults(Path folder, Path target, String browser) throws IOException {
+        Path results = folder.resolve("allure-results");
+        if (!Files.isDirectory(results)) {
+            return 0;
+        }
+        int copied = 0;
+        // Result and attachment files have unique names; shared files (environment, categories) are overwritten
+        try (Stream<Path> files = Files.list(results)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path copy = target.resolve(file.getFileName());
+                if (browser != null && file.getFileName().toString().endsWith("-result.json")) {
+                    MAPPER.writeValue(copy.toFile(), tagAllureResult((ObjectNode) MAPPER.readTree(file.toFile()), browser));
+                } else {
+                    Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING);
+                }
+                copied++;
+            }
+        }
+        return copied;
+    }
+}
@@ -0,0 +1,39 @@
+package com.automation.utils;
+
+/**
+ * Step Clock
+ * Per-thread running totals of time spent in fixed sleeps, condition waits and WebDriver
+ * commands. StepTimelinePlugin reads them before and after each step to split the step's
+ * wall time. Condition waits include the WebDriver commands they poll with.
+ */
+public class StepClock {
+
+    private static final ThreadLocal<long[]> totals = ThreadLocal.withInitial(() -> new long[3]);
+
+    static final int SLEEP = 0;
+    static final int WAIT = 1;
+    static final int DRIVER = 2;
+
+    private StepClock() {
+        // Private constructor
+    }
+
+    public static void addSleep(long nanos) {
+        totals.get()[SLEEP] += nanos;
+    }
+
+    public static void addWait(long nanos) {
+        totals.get()[WAIT] += nanos;
+    }
+
+    public static void addDriver(long nanos) {
+        totals.get()[DRIVER] += nanos;
+    }
+
+    /**
+     * @return copy of the current thread's totals: sleep, wait and driver nanoseconds
+     */
+    static long[] snapshot() {
+        return totals.get().clone();
+    }
+}
@@ -0,0 +1,246 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step Timeline Plugin
+ * Cucumber event-bus plugin that times every step and hook and splits its wall time into
+ * fixed sleeps, condition waits and WebDriver commands (see {@link StepClock}). At the end
+ * of the run it writes a Chrome trace (open in chrome://tracing or ui.perfetto.dev): one
+ * track per thread, scenarios with their steps nested inside, and logs the steps with the
+ * highest total time across the run.
+ *
+ * Register with: plugin = "com.automation.utils.StepTimelinePlugin:target/step-timeline.json"
+ * The current scenario's breakdown is available to hooks through {@link #currentScenarioSummary()}.
+ */
+public class StepTimelinePlugin implements ConcurrentEventListener {
+    private static final Logger logger = LogManager.getLogger(StepTimelinePlugin.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DEFAULT_OUTPUT = "target/step-timeline.json";
+
+    // Steps of the scenario running on each thread, for the Allure breakdown
+    private static final ThreadLocal<List<StepTiming>> scenarioSteps = ThreadLocal.withInitial(ArrayList::new);
+
+    private final File output;
+    private final ConcurrentLinkedQueue<ObjectNode> traceEvents = new ConcurrentLinkedQueue<>();
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+    private final Map<String, StepTotals> totalsByStep = new ConcurrentHashMap<>();
+    private final ThreadLocal<long[]> clockAtStepStart = new ThreadLocal<>();
+    private final ThreadLocal<Instant> scenarioStart = new ThreadLocal<>();
+    private volatile Instant runStart = Instant.now();
+
+    public StepTimelinePlugin() {
+        this(new File(DEFAULT_OUTPUT));
+    }
+
+    public StepTimelinePlugin(File output) {
+        this.output = output;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> runStart = event.getInstant());
+        publisher.registerHandlerFor(TestCaseStarted.class, this::onTestCaseStarted);
+        publisher.registerHandlerFor(TestStepStarted.class, event -> clockAtStepStart.set(StepClock.snapshot()));
+        publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> writeTrace());
+    }
+
+    /**
+     * Timing of the steps the current thread's scenario has run so far, as a text table
+     * @return breakdown, or null if no steps were recorded
+     */
+    public static String currentScenarioSummary() {
+        List<StepTiming> steps = scenarioSteps.get();
+        if (steps.isEmpty()) {
+            return null;
+        }
+        StringBuilder table = new StringBuilder(String.format("%8s %8s %8s %8s  %s%n",
+                "wall ms", "sleep", "wait", "driver", "step"));
+        for (StepTiming step : steps) {
+            table.append(String.format("%8d %8d %8d %8d  %s%n", millis(step.wallNanos), millis(step.sleepNanos),
+                    millis(step.waitNanos), millis(step.driverNanos), step.name));
+        }
+        return table.toString();
+    }
+
+    private void onTestCaseStarted(TestCaseStarted event) {
+        scenarioStart.set(event.getInstant());
+        scenarioSteps.get().clear();
+        Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.getId(), thread.getName());
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        long[] before = clockAtStepStart.get();
+        long[] after = StepClock.snapshot();
+        clockAtStepStart.remove();
+        if (before == null) {
+            before = after;
+        }
+
+        StepTiming timing = new StepTiming(describe(event.getTestStep()),
+                event.getResult().getDuration().toNanos(),
+                after[StepClock.SLEEP] - before[StepClock.SLEEP],
+                after[StepClock.WAIT] - before[StepClock.WAIT],
+                after[StepClock.DRIVER] - before[StepClock.DRIVER]);
+        scenarioSteps.get().add(timing);
+        totalsByStep.computeIfAbsent(timing.name, k -> new StepTotals()).add(timing);
+
+        ObjectNode trace = completeEvent(timing.name, event.getTestStep() instanceof HookTestStep ? "hook" : "step",
+                event.getInstant().minusNanos(timing.wallNanos), timing.wallNanos);
+        ObjectNode args = trace.putObject("args");
+        args.put("status", event.getResult().getStatus().name());
+        args.put("sleepMs", millis(timing.sleepNanos));
+        args.put("waitMs", millis(timing.waitNanos));
+        args.put("webdriverMs", millis(timing.driverNanos));
+        traceEvents.add(trace);
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        Instant start = scenarioStart.get();
+        scenarioStart.remove();
+        if (start == null) {
+            return;
+        }
+        long nanos = TimeUnit.MICROSECONDS.toNanos(toMicros(event.getInstant()) - toMicros(start));
+        ObjectNode trace = completeEvent(event.getTestCase().getName(), "scenario", start, nanos);
+        trace.putObject("args")
+                .put("status", event.getResult().getStatus().name())
+                .put("location", event.getTestCase().getUri() + ":" + event.getTestCase().getLocation().getLine());
+        traceEvents.add(trace);
+    }
+
+    private ObjectNode completeEvent(String name, String category, Instant start, long nanos) {
+        ObjectNode trace = MAPPER.createObjectNode();
+        trace.put("name", name);
+        trace.put("cat", category);
+        trace.put("ph", "X");
+        trace.put("ts", toMicros(start) - toMicros(runStart));
+        trace.put("dur", Math.max(1, nanos / 1_000));
+        trace.put("pid", 1);
+        trace.put("tid", Thread.currentThread().getId());
+        return trace;
+    }
+
+    private void writeTrace() {
+        ObjectNode json = MAPPER.createObjectNode();
+        ArrayNode events = json.putArray("traceEvents");
+        events.addObject().put("name", "process_name").put("ph", "M").put("pid", 1)
+                .putObject("args").put("name", "Cucumber run");
+        threadNames.forEach((id, name) -> events.addObject().put("name", "thread_name").put("ph", "M")
+                .put("pid", 1).put("tid", id).putObject("args").put("name", name));
+        traceEvents.forEach(events::add);
+        json.put("displayTimeUnit", "ms");
+        try {
+            File parent = output.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("Could not create " + parent);
+            }
+            MAPPER.writeValue(output, json);
+            logger.info("🕒 Step timeline written to {} ({} events)", output, traceEvents.size());
+        } catch (IOException e) {
+            logger.warn("Could not write step timeline to {}: {}", output, e.getMessage());
+        }
+        logSlowestSteps();
+    }
+
+    private void logSlowestSteps() {
+        if (totalsByStep.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, StepTotals>> entries = new ArrayList<>(totalsByStep.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, StepTotals> e) -> e.getValue().wallNanos).reversed());
+        logger.info("🕒 Steps with the highest total time:");
+        entries.stream().limit(10).forEach(entry -> {
+            StepTotals totals = entry.getValue();
+            logger.info("   {} runs, {} ms (sleep {} / wait {} / webdriver {} ms)  {}",
+                    totals.count, millis(totals.wallNanos), millis(totals.sleepNanos),
+                    millis(totals.waitNanos), millis(totals.driverNanos), entry.getKey());
+        });
+    }
+
+    private static String describe(TestStep step) {
+        if (step instanceof PickleStepTestStep) {
+            PickleStepTestStep pickleStep = (PickleStepTestStep) step;
+            return pickleStep.getStep().getKeyword().trim() + " " + pickleStep.getStep().getText();
+        }
+        if (step instanceof HookTestStep) {
+            // com.automation.stepdefinitions.Hooks.setUpBrowser(io.cucumber.java.Scenario) -> Hooks.setUpBrowser
+            String location = step.getCodeLocation();
+            int paren = location.indexOf('(');
+            String method = paren > 0 ? location.substring(0, paren) : location;
+            int classStart = method.lastIndexOf('.', method.lastIndexOf('.') - 1);
+            return ((HookTestStep) step).getHookType() + " " + method.substring(classStart + 1);
+        }
+        return step.getCodeLocation();
+    }
+
+    private static long toMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static class StepTiming {
+        private final String name;
+        private final long wallNanos;
+        private final long sleepNanos;
+        private final long waitNanos;
+        private final long driverNanos;
+
+        StepTiming(String name, long wallNanos, long sleepNanos, long waitNanos, long driverNanos) {
+            this.name = name;
+            this.wallNanos = wallNanos;
+            this.sleepNanos = sleepNanos;
+            this.waitNanos = waitNanos;
+            this.driverNanos = driverNanos;
+        }
+    }
+
+    private static class StepTotals {
+        private long count;
+        private long wallNanos;
+        private long sleepNanos;
+        private long waitNanos;
+        private long driverNanos;
+
+        synchronized void add(StepTiming timing) {
+            count++;
+            wallNanos += timing.wallNanos;
+            sleepNanos += timing.sleepNanos;
+            waitNanos += timing.waitNanos;
+            driverNanos += timing.driverNanos;
+        }
+    }
+}
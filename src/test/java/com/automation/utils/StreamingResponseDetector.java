@@ -0,0 +1,280 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streaming Response Detector
+ * Watches an LLM chat container with a MutationObserver and reports when a streamed
+ * answer has finished: a new response message has received its first token and its text
+ * has not changed for a quiet window. Time to first token, the number of text updates and
+ * the total response time are recorded alongside the final text.
+ *
+ * Only the answer's own message node is measured: messages matching the response XPath
+ * that exist at attach time are the baseline, and the newest message beyond them that is
+ * not the echoed prompt is the stream (counting past the baseline keeps a re-rendered
+ * history from looking new). Text elsewhere in the container (the user's bubble, toolbars,
+ * inputs rendered after the message list) never counts as a token.
+ *
+ * Attach before sending the prompt:
+ * <pre>
+ * StreamingResponseDetector detector = StreamingResponseDetector.attach(chatContainer, aiMessageXPath, prompt);
+ * sendButton.click();
+ * StreamingResponseDetector.Result result = detector.awaitCompletion();
+ * </pre>
+ */
+public class StreamingResponseDetector {
+    private static final Logger logger = LogManager.getLogger(StreamingResponseDetector.class);
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    // Longest single async script call; kept below the default 30s script timeout
+    private static final long MAX_SLICE_MS = 10_000;
+
+    /**
+     * Installs the observer on arguments[0]. The response node is re-resolved whenever it is
+     * detached (re-rendered message list); text updates are detected on textContent (no layout).
+     */
+    private static final String INSTALL_OBSERVER =
+            "var root = arguments[0], id = arguments[1], xpath = arguments[2], prompt = (arguments[3] || '').trim();" +
+            "var streams = window.__automationStreams = window.__automationStreams || {};" +
+            "if (streams[id]) { streams[id].observer.disconnect(); }" +
+            "function messages() {" +
+            "  var found = document.evaluate(xpath, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), all = [];" +
+            "  for (var i = 0; i < found.snapshotLength; i++) { all.push(found.snapshotItem(i)); }" +
+            "  return all;" +
+            "}" +
+            "var s = { root: root, start: performance.now(), firstToken: null, lastToken: null, updates: 0," +
+            "  length: 0, baseline: messages(), node: null };" +
+            "s.response = function () {" +
+            "  if (s.node && document.contains(s.node)) { return s.node; }" +
+            "  s.node = null;" +
+            "  var all = messages();" +
+            "  for (var i = all.length - 1; i >= s.baseline.length; i--) {" +
+            "    if (s.baseline.indexOf(all[i]) >= 0) { continue; }" +
+            "    if (prompt && (all[i].textContent || '').trim() === prompt) { continue; }" +
+            "    s.node = all[i]; break;" +
+            "  }" +
+            "  return s.node;" +
+            "};" +
+            "s.text = function () { var node = s.response(); return node ? (node.innerText || node.textContent || '').trim() : ''; };" +
+            "s.observer = new MutationObserver(function () {" +
+            "  var node = s.response();" +
+            "  var length = node ? (node.textContent || '').trim().length : 0;" +
+            "  if (length === s.length) { return; }" +
+            "  var now = performance.now();" +
+            "  if (s.firstToken === null && length > 0) { s.firstToken = now; }" +
+            "  s.lastToken = now; s.updates++; s.length = length;" +
+            "});" +
+            "s.observer.observe(root, { childList: true, subtree: true, characterData: true });" +
+            "streams[id] = s;";
+
+    /**
+     * Resolves as soon as the stream is complete, the container is detached, or the slice ends.
+     * The next check is scheduled for the moment the quiet window would elapse, so the browser
+     * is not polled while tokens are still arriving.
+     */
+    private static final String AWAIT_COMPLETION =
+            "var id = arguments[0], quiet = arguments[1], slice = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var s = (window.__automationStreams || {})[id];" +
+            "if (!s) { done({ state: 'missing' }); return; }" +
+            "var deadline = performance.now() + slice;" +
+            "function report(state) {" +
+            "  var now = performance.now();" +
+            "  if (state !== 'pending') { s.observer.disconnect(); delete window.__automationStreams[id]; }" +
+            "  done({ state: state, elapsed: now - s.start, updates: s.updates," +
+            "    firstToken: s.firstToken === null ? -1 : s.firstToken - s.start," +
+            "    lastToken: s.lastToken === null ? -1 : s.lastToken - s.start," +
+            "    text: state === 'complete' ? s.text() : '' });" +
+            "}" +
+            "(function check() {" +
+            "  var now = performance.now();" +
+            "  if (!document.contains(s.root)) { report('detached'); return; }" +
+            "  if (s.firstToken !== null && now - s.lastToken >= quiet) { report('complete'); return; }" +
+            "  if (now >= deadline) { report('pending'); return; }" +
+            "  var next = s.firstToken === null ? 100 : s.lastToken + quiet - now;" +
+            "  setTimeout(check, Math.max(10, Math.min(next, deadline - now)));" +
+            "})();";
+
+    private static final String DETACH =
+            "var s = (window.__automationStreams || {})[arguments[0]];" +
+            "if (s) { s.observer.disconnect(); delete window.__automationStreams[arguments[0]]; }";
+
+    private final WebDriver driver;
+    private final String id;
+
+    private StreamingResponseDetector(WebDriver driver, String id) {
+        this.driver = driver;
+        this.id = id;
+    }
+
+    /**
+     * Start watching a chat container
+     * @param container locator of the element the chat messages are rendered into
+     * @param responseXPath XPath of a single AI message node; the newest one added after attach is the response
+     * @param prompt prompt about to be sent; a new message with exactly this text is its echo, not the response (may be null)
+     * @return detector bound to the current driver
+     */
+    public static StreamingResponseDetector attach(By container, String responseXPath, String prompt) {
+        WebDriver driver = DriverManager.getDriver();
+        WebElement root = driver.findElement(container);
+        String id = "stream-" + SEQUENCE.incrementAndGet();
+        ((JavascriptExecutor) driver).executeScript(INSTALL_OBSERVER, root, id, responseXPath, prompt);
+        logger.debug("Attached streaming response detector {} to {}", id, container);
+        return new StreamingResponseDetector(driver, id);
+    }
+
+    /**
+     * Wait for the response using the configured quiet window and timeout
+     * @return detection result
+     */
+    public Result awaitCompletion() {
+        return awaitCompletion(ConfigReader.getLlmResponseQuietPeriodDuration(),
+                ConfigReader.getLlmResponseTimeoutDuration());
+    }
+
+    /**
+     * Wait until the response message has its first token and its text stays unchanged for the quiet window
+     * @param quietPeriod how long the response must stay unchanged to count as complete
+     * @param timeout maximum time to wait
+     * @return detection result; check {@link Result#isComplete()} before trusting the text
+     */
+    @SuppressWarnings("unchecked")
+    public Result awaitCompletion(Duration quietPeriod, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Map<String, Object> state;
+        do {
+            long sliceMs = Math.max(1, Math.min(MAX_SLICE_MS, (deadline - System.nanoTime()) / 1_000_000));
+            try {
+                state = (Map<String, Object>) ((JavascriptExecutor) driver)
+                        .executeAsyncScript(AWAIT_COMPLETION, id, quietPeriod.toMillis(), sliceMs);
+            } catch (Exception e) {
+                logger.warn("Streaming response detector {} failed: {}", id, e.getMessage());
+                return record(Result.failed("error"));
+            }
+        } while ("pending".equals(state.get("state")) && System.nanoTime() < deadline);
+
+        if ("pending".equals(state.get("state"))) {
+            detach();
+        }
+        return record(Result.from(state));
+    }
+
+    /**
+     * Stop watching without waiting for completion
+     */
+    public void detach() {
+        try {
+            ((JavascriptExecutor) driver).executeScript(DETACH, id);
+        } catch (Exception e) {
+            logger.debug("Could not detach streaming response detector {}: {}", id, e.getMessage());
+        }
+    }
+
+    private Result record(Result result) {
+        if (result.getTimeToFirstToken() != null) {
+            WaitMetrics.record("llm first token", result.getTimeToFirstToken().toNanos(), true);
+        }
+        WaitMetrics.record("llm response", result.getTotalTime().toNanos(), result.isComplete());
+
+        if (result.isComplete()) {
+            logger.info("🤖 Response complete - first token: {} ms, updates: {}, total: {} ms, length: {} chars",
+                    result.getTimeToFirstToken().toMillis(), result.getUpdates(),
+                    result.getTotalTime().toMillis(), result.getText().length());
+        } else {
+            logger.warn("🤖 Response not complete ({}) after {} ms, updates: {}",
+                    result.getState(), result.getTotalTime().toMillis(), result.getUpdates());
+        }
+        return result;
+    }
+
+    /**
+     * Streaming response detection result
+     */
+    public static class Result {
+        private final String state;
+        private final String text;
+        private final Duration timeToFirstToken;
+        private final Duration lastTokenAt;
+        private final Duration totalTime;
+        private final int updates;
+
+        private Result(String state, String text, Duration timeToFirstToken, Duration lastTokenAt,
+                       Duration totalTime, int updates) {
+            this.state = state;
+            this.text = text;
+            this.timeToFirstToken = timeToFirstToken;
+            this.lastTokenAt = lastTokenAt;
+            this.totalTime = totalTime;
+            this.updates = updates;
+        }
+
+        static Result failed(String state) {
+            return new Result(state, "", null, null, Duration.ZERO, 0);
+        }
+
+        static Result from(Map<String, Object> state) {
+            if (!state.containsKey("elapsed")) {
+                return failed(String.valueOf(state.get("state")));
+            }
+            return new Result(
+                    String.valueOf(state.get("state")),
+                    String.valueOf(state.get("text")),
+                    toDuration(state.get("firstToken")),
+                    toDuration(state.get("lastToken")),
+                    toDuration(state.get("elapsed")),
+                    ((Number) state.get("updates")).intValue());
+        }
+
+        private static Duration toDuration(Object millis) {
+            double value = ((Number) millis).doubleValue();
+            return value < 0 ? null : Duration.ofNanos((long) (value * 1_000_000));
+        }
+
+        /**
+         * @return true if a response message got text and then stayed unchanged for the quiet window
+         */
+        public boolean isComplete() {
+            return "complete".equals(state);
+        }
+
+        /**
+         * @return complete, pending (timed out), detached (container re-rendered), missing or error
+         */
+        public String getState() { return state; }
+
+        /**
+         * @return text of the response message, empty unless complete
+         */
+        public String getText() { return text; }
+
+        /**
+         * @return time from attach to the response message's first text, or null if nothing arrived
+         */
+        public Duration getTimeToFirstToken() { return timeToFirstToken; }
+
+        /**
+         * @return time from attach to the last text update, or null if nothing arrived
+         */
+        public Duration getLastTokenAt() { return lastTokenAt; }
+
+        public Duration getTotalTime() { return totalTime; }
+        public int getUpdates() { return updates; }
+
+        @Override
+        public String toString() {
+            return String.format("Result{state=%s, firstToken=%s, updates=%d, total=%dms, length=%d}",
+                    state, timeToFirstToken == null ? "n/a" : timeToFirstToken.toMillis() + "ms",
+                    updates, totalTime.toMillis(), text.length());
+        }
+    }
+}
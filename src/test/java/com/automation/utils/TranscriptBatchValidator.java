@@ -0,0 +1,289 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transcript Batch Validator
+ * Re-scores recorded agent responses offline, without a browser.
+ *
+ * Input is JSONL, one record per line:
+ * <pre>
+ * {"id": "run-42/7", "validator": "tms", "prompt": "...", "response": "...", "expected": "..."}
+ * </pre>
+ * "validator" is "tms" (TMS scope) or "jasalma" (course scope plus injection resistance);
+ * records without one default to "tms". Each record is validated with
+ * {@link LLMResponseValidator#validateTranscript}; one result line per record is written
+ * in input order, followed by an aggregate summary with pass rates per validator and per
+ * expected behavior (the first 1000 distinct ones; later ones are counted under "(other)").
+ * Records with any other validator fail and are summarized under "unknown".
+ *
+ * The file is streamed: at most a small multiple of the thread count is held in memory at
+ * any time, so input size is bounded only by disk.
+ *
+ * Usage: TranscriptBatchValidator &lt;input.jsonl&gt; &lt;results.jsonl&gt; [summary.json] [threads]
+ */
+public class TranscriptBatchValidator {
+    private static final Logger logger = LogManager.getLogger(TranscriptBatchValidator.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // Records in flight per worker thread; bounds memory regardless of input size
+    private static final int IN_FLIGHT_PER_THREAD = 64;
+
+    // Distinct expected behaviors tallied separately; "expected" is free text, so the rest share one
+    // "(other)" entry per validator to keep the summary bounded
+    private static final int MAX_EXPECTED_KEYS = 1000;
+    private static final String OTHER_EXPECTED = "(other)";
+    private static final Set<String> KNOWN_VALIDATORS = Set.of("tms", "jasalma");
+    private static final String UNKNOWN_VALIDATOR = "unknown";
+
+    private TranscriptBatchValidator() {
+        // Private constructor
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: TranscriptBatchValidator <input.jsonl> <results.jsonl> [summary.json] [threads]");
+            System.exit(2);
+        }
+        Path input = Paths.get(args[0]);
+        Path results = Paths.get(args[1]);
+        Path summaryFile = args.length > 2 ? Paths.get(args[2]) : siblingSummary(results);
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        Summary summary = run(input, results, threads);
+        Files.createDirectories(summaryFile.toAbsolutePath().getParent());
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(summaryFile.toFile(), summary.toJson());
+        logger.info("📄 Summary written to {}", summaryFile);
+    }
+
+    /**
+     * Validate every record of a JSONL file
+     * @param input recorded transcripts, one JSON object per line
+     * @param results file receiving one JSON result per input line, in input order
+     * @param threads number of validation threads
+     * @return aggregate pass rates
+     */
+    public static Summary run(Path input, Path results, int threads) throws IOException {
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        int workers = Math.max(1, threads);
+        int maxInFlight = workers * IN_FLIGHT_PER_THREAD;
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "transcript-validator-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Summary summary = new Summary();
+        Deque<Future<Outcome>> inFlight = new ArrayDeque<>(maxInFlight);
+        long start = System.nanoTime();
+        logger.info("🔎 Validating transcripts from {} with {} thread(s)", input, workers);
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter writer = Files.newBufferedWriter(results, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                // Writing the oldest result before reading further keeps memory bounded and order stable
+                if (inFlight.size() >= maxInFlight) {
+                    write(inFlight.removeFirst(), writer, summary);
+                }
+                String record = line;
+                long number = lineNumber;
+                inFlight.addLast(executor.submit(() -> validate(number, record)));
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.removeFirst(), writer, summary);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        summary.elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        summary.log();
+        return summary;
+    }
+
+    private static Outcome validate(long lineNumber, String line) {
+        ObjectNode result = MAPPER.createObjectNode();
+        result.put("line", lineNumber);
+        try {
+            JsonNode record = MAPPER.readTree(line);
+            String validator = text(record, "validator", "tms");
+            String expected = text(record, "expected", "");
+            if (record.hasNonNull("id")) {
+                result.set("id", record.get("id"));
+            }
+            result.put("validator", validator);
+            result.put("expected", expected);
+
+            LLMResponseValidator.ValidationResult validation = LLMResponseValidator.validateTranscript(
+                    validator, text(record, "prompt", ""), text(record, "response", ""), expected);
+            result.put("passed", validation.isPassed());
+            result.put("message", validation.getMessage());
+            return new Outcome(result, validator, expected, validation.isPassed(), false);
+        } catch (Exception e) {
+            result.put("passed", false);
+            result.put("error", e.getMessage());
+            return new Outcome(result, "invalid", "", false, true);
+        }
+    }
+
+    private static void write(Future<Outcome> future, BufferedWriter writer, Summary summary) throws IOException {
+        Outcome outcome;
+        try {
+            outcome = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while validating transcripts", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Transcript validation failed", e.getCause());
+        }
+        writer.write(MAPPER.writeValueAsString(outcome.result));
+        writer.newLine();
+        summary.add(outcome);
+    }
+
+    private static String text(JsonNode record, String field, String defaultValue) {
+        JsonNode value = record.get(field);
+        return value == null || value.isNull() ? defaultValue : value.asText();
+    }
+
+    private static Path siblingSummary(Path results) {
+        String name = results.getFileName().toString().replaceFirst("\\.jsonl?$", "");
+        return results.resolveSibling(name + "-summary.json");
+    }
+
+    /**
+     * Validation outcome for one input line
+     */
+    private static class Outcome {
+        private final ObjectNode result;
+        private final String validator;
+        private final String expected;
+        private final boolean passed;
+        private final boolean invalid;
+
+        Outcome(ObjectNode result, String validator, String expected, boolean passed, boolean invalid) {
+            this.result = result;
+            this.validator = validator;
+            this.expected = expected;
+            this.passed = passed;
+            this.invalid = invalid;
+        }
+    }
+
+    /**
+     * Aggregate pass rates; only updated by the writing thread
+     */
+    public static class Summary {
+        private final Tally total = new Tally();
+        private final Map<String, Tally> byValidator = new TreeMap<>();
+        private final Map<String, Tally> byExpected = new TreeMap<>();
+        private long invalid;
+        private long elapsedMillis;
+
+        void add(Outcome outcome) {
+            if (outcome.invalid) {
+                invalid++;
+                return;
+            }
+            total.add(outcome.passed);
+            String validator = summaryValidator(outcome.validator);
+            byValidator.computeIfAbsent(validator, k -> new Tally()).add(outcome.passed);
+            if (!outcome.expected.isEmpty()) {
+                String key = validator + ": " + outcome.expected;
+                if (!byExpected.containsKey(key) && byExpected.size() >= MAX_EXPECTED_KEYS) {
+                    key = validator + ": " + OTHER_EXPECTED;
+                }
+                byExpected.computeIfAbsent(key, k -> new Tally()).add(outcome.passed);
+            }
+        }
+
+        /**
+         * "validator" is free text too; anything but the known validators shares one bucket
+         */
+        private static String summaryValidator(String validator) {
+            String name = validator.toLowerCase(Locale.ROOT);
+            return KNOWN_VALIDATORS.contains(name) ? name : UNKNOWN_VALIDATOR;
+        }
+
+        public long getTotal() { return total.count; }
+        public long getPassed() { return total.passed; }
+        public long getInvalid() { return invalid; }
+        public double getPassRate() { return total.rate(); }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        ObjectNode toJson() {
+            ObjectNode json = MAPPER.createObjectNode();
+            total.writeTo(json);
+            json.put("invalid", invalid);
+            json.put("elapsedMillis", elapsedMillis);
+            json.put("recordsPerSecond", elapsedMillis == 0 ? 0 : (total.count + invalid) * 1000 / elapsedMillis);
+            ObjectNode validators = json.putObject("byValidator");
+            byValidator.forEach((name, tally) -> tally.writeTo(validators.putObject(name)));
+            ObjectNode expected = json.putObject("byExpected");
+            byExpected.forEach((name, tally) -> tally.writeTo(expected.putObject(name)));
+            return json;
+        }
+
+        void log() {
+            logger.info("📊 Transcripts - total: {}, passed: {}, failed: {}, invalid: {}, pass rate: {}%, {} ms",
+                    total.count, total.passed, total.count - total.passed, invalid,
+                    Math.round(total.rate() * 100), elapsedMillis);
+            byValidator.forEach((name, tally) -> logger.info("📊   {} - total: {}, pass rate: {}%",
+                    name, tally.count, Math.round(tally.rate() * 100)));
+        }
+    }
+
+    private static class Tally {
+        private long count;
+        private long passed;
+
+        void add(boolean pass) {
+            count++;
+            if (pass) {
+                passed++;
+            }
+        }
+
+        double rate() {
+            return count == 0 ? 0.0 : (double) passed / count;
+        }
+
+        void writeTo(ObjectNode json) {
+            json.put("total", count);
+            json.put("passed", passed);
+            json.put("failed", count - passed);
+            json.put("passRate", rate());
+        }
+    }
+}
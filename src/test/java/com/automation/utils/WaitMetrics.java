@@ -0,0 +1,99 @@
+package com.automation.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Wait Metrics
+ * Records how long every condition wait actually took, so fixed sleeps can be
+ * compared against (and replaced by) the time the condition really needed
+ */
+public class WaitMetrics {
+    private static final Logger logger = LogManager.getLogger(WaitMetrics.class);
+
+    private static final Map<String, Stat> stats = new ConcurrentHashMap<>();
+
+    private WaitMetrics() {
+        // Private constructor
+    }
+
+    /**
+     * Run a wait and record its duration; a wait that throws is recorded as a timeout
+     * @param name wait name used in the summary
+     * @param wait the wait to run
+     * @param <T> wait result type
+     * @return wait result
+     */
+    public static <T> T time(String name, Supplier<T> wait) {
+        long start = System.nanoTime();
+        boolean met = false;
+        try {
+            T result = wait.get();
+            met = true;
+            return result;
+        } finally {
+            record(name, System.nanoTime() - start, met);
+        }
+    }
+
+    /**
+     * Record a finished wait
+     * @param name wait name used in the summary
+     * @param nanos time spent waiting
+     * @param met true if the condition was met, false if the wait timed out
+     */
+    public static void record(String name, long nanos, boolean met) {
+        stats.computeIfAbsent(name, k -> new Stat()).add(nanos, met);
+        StepClock.addWait(nanos);
+        logger.debug("⏱️ Wait '{}' {} after {} ms", name, met ? "met" : "timed out", nanos / 1_000_000);
+    }
+
+    /**
+     * Log one line per wait type: count, timeouts, total, average and max duration
+     */
+    public static void logSummary() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        logger.info("⏱️ Wait summary:");
+        new TreeMap<>(stats).forEach((name, stat) -> logger.info("   {}", stat.describe(name)));
+    }
+
+    /**
+     * Clear all recorded waits
+     */
+    public static void reset() {
+        stats.clear();
+    }
+
+    private static class Stat {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long nanos, boolean met) {
+            count.increment();
+            if (!met) {
+                timeouts.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        String describe(String name) {
+            long n = count.sum();
+            long total = totalNanos.sum();
+            return String.format("%-28s count=%-5d timeouts=%-4d total=%7d ms  avg=%6d ms  max=%6d ms",
+                    name, n, timeouts.sum(), total / 1_000_000,
+                    n == 0 ? 0 : total / n / 1_000_000, maxNanos.get() / 1_000_000);
+        }
+    }
+}
@@ -12,12 +12,10 @@ Feature: Jasalma AI Security - Prompt Injection Testing
   # Course: AI Skills for Tech people
   # Language: English
 
+  # Login itself is covered by authentication.feature; here the session is restored
+  # from the authenticated-state cache after the first UI login of the run
   Background:
-    Given the Jasalma user is on the sign in page
-    When the Jasalma user enters email "pro@gmail.com"
-    And the Jasalma user enters password "Prodbek2025!"
-    And the Jasalma user clicks the continue button
-    Then the Jasalma user should be logged in successfully
+    Given the Jasalma user is logged in with email "pro@gmail.com" and password "Prodbek2025!"
 
   @security @prompt-injection @negative
   Scenario Outline: AI Agent should resist prompt injection attacks
@@ -19,6 +19,7 @@ Feature: Nomad TMS User Sign Up Functionality
 
   @negative
   Scenario: Sign up with existing email
+    Given a Nomad TMS account exists for "sdet@gmail.com"
     When the Nomad TMS user enters first name "Test"
     And the Nomad TMS user enters last name "User"
     And the Nomad TMS user enters organization name "Test Organization"